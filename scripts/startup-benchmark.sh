@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Builds the plain and faststart images and starts each one several times against a throwaway Postgres,
+# reporting the median of:
+#   ready_ms   time from `docker run` until GET /api/v1/tasks answers 200
+#   spring_s   startup time Spring logs ("Started Application in ...")
+#   rss_mb     resident memory of the JVM once ready
+# plus the image size. Containers are limited to CPUS cores and MEMORY, as a pod would be.
+#
+#   scripts/startup-benchmark.sh [runs]        default 5 runs per image
+#
+# Needs docker, curl and GNU date.
+set -euo pipefail
+
+RUNS=${1:-5}
+CPUS=${CPUS:-2}
+MEMORY=${MEMORY:-1g}
+PORT=${PORT:-4000}
+NETWORK=startup-benchmark
+DATABASE=startup-benchmark-db
+APP=startup-benchmark-app
+
+cd "$(dirname "$0")/.."
+
+cleanup() {
+  docker rm -f "$APP" "$DATABASE" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Starts the image once and prints "ready_ms rss_kb spring_s".
+measure() {
+  local image=$1 start ready rss spring
+  start=$(now_ms)
+  docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:4000" --cpus "$CPUS" --memory "$MEMORY" \
+    -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DATABASE:5432/postgres" \
+    -e POSTGRES_USER=bench -e POSTGRES_PASSWORD=bench \
+    "$image" >/dev/null
+  until curl -fs -o /dev/null "http://localhost:$PORT/api/v1/tasks?limit=1"; do
+    if (( $(now_ms) - start > 120000 )); then
+      docker logs "$APP" >&2
+      echo "$image did not become ready within 2 minutes" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_ms) - start ))
+  rss=$(docker exec "$APP" sh -c 'grep VmRSS /proc/1/status' | awk '{ print $2 }')
+  spring=$(docker logs "$APP" 2>&1 | grep -o 'Started Application in [0-9.]*' | grep -o '[0-9.]*$' | head -n 1)
+  docker rm -f "$APP" >/dev/null
+  echo "$ready $rss ${spring:-0}"
+}
+
+report() {
+  local image=$1 results=() size
+  for (( run = 1; run <= RUNS; run++ )); do
+    results+=("$(measure "$image")")
+  done
+  size=$(docker image inspect -f '{{.Size}}' "$image")
+  printf '%-20s %10s %10s %10s %10s\n' "$image" \
+    "$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)" \
+    "$(printf '%s\n' "${results[@]}" | cut -d' ' -f3 | median)" \
+    "$(( $(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median | cut -d. -f1) / 1024 ))" \
+    "$(( size / 1024 / 1024 ))"
+}
+
+# the plain image copies in the jar built on the host
+if [[ ! -f build/libs/test-backend.jar ]]; then
+  echo "build/libs/test-backend.jar is missing, run ./gradlew bootJar first" >&2
+  exit 1
+fi
+
+echo "Building images..."
+docker build -q --target plain -t task-api:plain . >/dev/null
+docker build -q --target faststart -t task-api:faststart . >/dev/null
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DATABASE" --network "$NETWORK" \
+  -e POSTGRES_USER=bench -e POSTGRES_PASSWORD=bench postgres:16 >/dev/null
+until docker exec "$DATABASE" pg_isready -h 127.0.0.1 -U bench -d postgres >/dev/null 2>&1; do
+  sleep 0.5
+done
+
+# the first start applies the Flyway migrations; keep that out of the timed runs
+measure task-api:plain >/dev/null
+
+printf '%-20s %10s %10s %10s %10s\n' image ready_ms spring_s rss_mb image_mb
+report task-api:plain
+report task-api:faststart
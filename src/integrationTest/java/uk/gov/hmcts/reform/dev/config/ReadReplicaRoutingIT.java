@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the application against two independent Postgres containers standing in for a primary and its
+ * replica, and uses the database name to tell which one served a statement.
+ */
+@SpringBootTest
+@Testcontainers
+class ReadReplicaRoutingIT {
+
+    private static final String CURRENT_DATABASE = "select current_database()";
+    private static final long READ_YOUR_WRITES_WINDOW_MILLIS = 500;
+
+    @Container
+    static PostgreSQLContainer<?> primary =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("primaryDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @Container
+    static PostgreSQLContainer<?> replica =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("replicaDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.read-your-writes-window", () -> READ_YOUR_WRITES_WINDOW_MILLIS + "ms");
+        registry.add("app.datasource.replica.retry-interval", () -> "1m");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should route reads to the replica outside the read-your-writes window and fall back when it is down")
+    void shouldRouteReadOnlyTransactions() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThat(readWrite.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class)))
+            .isEqualTo("primaryDB");
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class)))
+            .as("read straight after a write stays on the primary")
+            .isEqualTo("primaryDB");
+        assertThat(CompletableFuture.supplyAsync(
+            () -> readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class))).get())
+            .as("another client's writes do not keep this one's reads off the replica")
+            .isEqualTo("replicaDB");
+
+        Thread.sleep(READ_YOUR_WRITES_WINDOW_MILLIS * 2);
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class)))
+            .isEqualTo("replicaDB");
+
+        replica.stop();
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class)))
+            .as("reads fall back to the primary when the replica is unreachable")
+            .isEqualTo("primaryDB");
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Runs the application with a replica that never receives the primary's writes, so every replica read
+ * is as stale as replication lag can make it, and checks that such a read can't reach the task cache.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class ReadReplicaTaskCacheIT {
+
+    @Container
+    static PostgreSQLContainer<?> primary =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("primaryDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @Container
+    static PostgreSQLContainer<?> replica =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("replicaDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.read-your-writes-window", () -> "1m");
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+            .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+            .load()
+            .migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("A read without Last-Write-At should not cache a stale replica row for the writing client")
+    void shouldNotCacheStaleReplicaRows() throws Exception {
+        TaskRequest request = new TaskRequest("Lagging task", null, Status.PENDING, LocalDateTime.now().plusDays(1));
+        String created = mockMvc.perform(post("/api/v1/tasks")
+                                             .contentType(MediaType.APPLICATION_JSON)
+                                             .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).path("id").asLong();
+        copyToReplica(id, request);
+
+        String lastWriteAt = mockMvc.perform(patch("/api/v1/tasks/{id}/status", id).param("status", "COMPLETED"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ReadYourWrites.LAST_WRITE_HEADER);
+        assertThat(lastWriteAt).isNotNull();
+
+        mockMvc.perform(get("/api/v1/tasks").param("limit", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].status").value("PENDING"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", id).header(ReadYourWrites.LAST_WRITE_HEADER, lastWriteAt))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    private static void copyToReplica(long id, TaskRequest request) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+        jdbcTemplate.update(
+            "insert into task (id, title, status, due_date, created_at, updated_at)"
+                + " values (?, ?, ?, ?, localtimestamp, localtimestamp)",
+            id, request.title(), request.status().name(), request.dueDate());
+    }
+}
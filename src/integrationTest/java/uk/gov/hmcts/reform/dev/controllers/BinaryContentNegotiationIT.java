@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class BinaryContentNegotiationIT {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+    @Test
+    @DisplayName("A CBOR request should create a task and get a CBOR response with the same fields as JSON")
+    void shouldAcceptAndReturnCbor() throws Exception {
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        byte[] body = mockMvc.perform(post("/api/v1/tasks")
+                                          .contentType(CBOR)
+                                          .accept(CBOR)
+                                          .content(cborMapper.writeValueAsBytes(
+                                              new TaskRequest("Binary", "desc", Status.PENDING, dueDate))))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        TaskResponse created = cborMapper.readValue(body, TaskResponse.class);
+
+        assertThat(created.title()).isEqualTo("Binary");
+        assertThat(created.dueDate()).isEqualTo(dueDate);
+    }
+
+    @Test
+    @DisplayName("A task should be readable as Smile when requested, and as JSON by default")
+    void shouldNegotiateSmileAndDefaultToJson() throws Exception {
+        byte[] body = mockMvc.perform(post("/api/v1/tasks")
+                                          .contentType(SMILE)
+                                          .accept(SMILE)
+                                          .content(smileMapper.writeValueAsBytes(new TaskRequest(
+                                              "Smiley", null, Status.PENDING, LocalDateTime.now().plusDays(1)))))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsByteArray();
+        long id = smileMapper.readValue(body, TaskResponse.class).id();
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", id).accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE));
+        mockMvc.perform(get("/api/v1/tasks/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
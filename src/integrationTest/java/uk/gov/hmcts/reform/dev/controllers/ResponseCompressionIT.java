@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+/**
+ * Compression is applied by Tomcat, so these requests go over a real socket; {@link HttpClient} does not
+ * decompress, which lets the test compare the bytes actually sent.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class ResponseCompressionIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void seedTasks() {
+        List<TaskRequest> requests = IntStream.range(0, 100)
+            .mapToObj(i -> new TaskRequest("Compressed " + i, "A description long enough to repeat " + i,
+                                           Status.PENDING, LocalDateTime.now().plusDays(1)))
+            .toList();
+        taskService.createTasks(requests);
+    }
+
+    @Test
+    @DisplayName("A list response should be gzipped when the client accepts gzip")
+    void shouldGzipLargeResponsesWhenAccepted() throws Exception {
+        HttpResponse<byte[]> plain = get("/api/v1/tasks?unpaged=true", null);
+        HttpResponse<byte[]> gzipped = get("/api/v1/tasks?unpaged=true", "gzip");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.body().length).isLessThan(plain.body().length / 4);
+        assertThat(gunzip(gzipped.body())).isEqualTo(plain.body());
+    }
+
+    @Test
+    @DisplayName("A response below the size threshold should be sent uncompressed")
+    void shouldNotCompressSmallResponses() throws Exception {
+        HttpResponse<byte[]> response = get("/api/v1/tasks?limit=1", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
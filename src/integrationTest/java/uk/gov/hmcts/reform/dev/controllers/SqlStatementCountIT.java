@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.config.SqlStatisticsFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Pins the number of JDBC statements each endpoint runs, so an N+1 regression fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class SqlStatementCountIT {
+
+    private static final int BATCH = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Reads and batch writes should run a fixed number of statements regardless of row count")
+    void shouldRunBoundedStatementsPerEndpoint() throws Exception {
+        List<TaskRequest> requests = IntStream.range(0, BATCH)
+            .mapToObj(i -> new TaskRequest("Counted task " + i, null, Status.PENDING, LocalDateTime.now().plusDays(1)))
+            .toList();
+        MvcResult batch = mockMvc.perform(post("/api/v1/tasks/batch")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isOk())
+            .andReturn();
+        // pooled sequence (allocation 50) plus JDBC insert batches of 50
+        assertThat(statementCount(batch)).isLessThanOrEqualTo(6);
+
+        JsonNode created = objectMapper.readTree(batch.getResponse().getContentAsString());
+        long id = created.path("results").get(0).path("task").path("id").asLong();
+
+        assertThat(statementCount(mockMvc.perform(get("/api/v1/tasks/{id}", id))
+                                      .andExpect(status().isOk()).andReturn())).isEqualTo(1);
+        assertThat(statementCount(mockMvc.perform(get("/api/v1/tasks").param("limit", "100"))
+                                      .andExpect(status().isOk()).andReturn())).isEqualTo(1);
+        assertThat(statementCount(mockMvc.perform(get("/api/v1/tasks").param("unpaged", "true"))
+                                      .andExpect(status().isOk()).andReturn())).isEqualTo(2);
+    }
+
+    private static int statementCount(MvcResult result) {
+        return (Integer) result.getRequest().getAttribute(SqlStatisticsFilter.STATEMENT_COUNT_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+@SpringBootTest(properties = {
+    "app.overdue.interval=1h",
+    "app.overdue.chunk-size=25",
+    "app.outbox.relay.poll-interval=1h"
+})
+@Testcontainers
+class OverdueTaskSweeperIT {
+
+    private static final LocalDateTime PAST = LocalDateTime.now().minusDays(1);
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private OverdueTaskSweeper sweeper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        taskRepository.deleteAllInBatch();
+        jdbcTemplate.update("delete from task_outbox");
+    }
+
+    @Test
+    @DisplayName("Open tasks past their due date should be flagged once, each with an OVERDUE event")
+    void shouldFlagOpenOverdueTasks() {
+        Task overdue = save("Overdue", Status.PENDING, PAST);
+        save("Completed", Status.COMPLETED, PAST);
+        save("Not due", Status.IN_PROGRESS, LocalDateTime.now().plusDays(1));
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        assertThat(sweeper.sweep()).isZero();
+
+        assertThat(jdbcTemplate.queryForList("select id from task where overdue_at is not null", Long.class))
+            .containsExactly(overdue.getId());
+        assertThat(jdbcTemplate.queryForList(
+            "select task_id from task_outbox where event_type = 'OVERDUE'", Long.class))
+            .containsExactly(overdue.getId());
+    }
+
+    @Test
+    @DisplayName("Overdue tasks without a status should be flagged too")
+    void shouldFlagOverdueTasksWithoutStatus() {
+        Task overdue = save("No status", null, PAST);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("select id from task where overdue_at is not null", Long.class))
+            .containsExactly(overdue.getId());
+    }
+
+    @Test
+    @DisplayName("Concurrent sweeps should split the backlog without flagging any task twice")
+    void shouldShareBacklogBetweenConcurrentSweeps() throws Exception {
+        IntStream.range(0, 500).forEach(i -> save("Overdue " + i, Status.PENDING, PAST.minusMinutes(i)));
+
+        int flagged = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Callable<Integer>> sweeps = IntStream.range(0, 4).<Callable<Integer>>mapToObj(i -> sweeper::sweep)
+                .toList();
+            for (Future<Integer> result : executor.invokeAll(sweeps)) {
+                flagged += result.get();
+            }
+        }
+
+        assertThat(flagged).isEqualTo(500);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from task_outbox where event_type = 'OVERDUE'", Long.class)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Moving the due date should clear the flag so the task can be swept again")
+    void shouldClearFlagWhenDueDateMoves() {
+        Task task = save("Rescheduled", Status.PENDING, PAST);
+        sweeper.sweep();
+
+        task.setDueDate(PAST.minusHours(1));
+        taskRepository.save(task);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select overdue_at is null from task where id = ?", Boolean.class, task.getId())).isTrue();
+        assertThat(sweeper.sweep()).isEqualTo(1);
+    }
+
+    private Task save(String title, Status status, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder().title(title).status(status).dueDate(dueDate).build());
+    }
+}
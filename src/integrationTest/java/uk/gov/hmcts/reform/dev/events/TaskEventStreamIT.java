@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class TaskEventStreamIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangeListener taskChangeListener;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void awaitListener() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!taskChangeListener.isListening() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(taskChangeListener.isListening()).isTrue();
+    }
+
+    @Test
+    @DisplayName("A committed change should reach an open stream as a named event carrying the task")
+    void shouldPushChangesToSubscribers() throws Exception {
+        try (Stream<String> lines = open(null)) {
+            TaskResponse created = createTask("Streamed");
+
+            List<String> event = nextEvent(lines.iterator());
+
+            assertThat(event).contains("event:CREATED");
+            assertThat(event).anySatisfy(line -> assertThat(line).startsWith("id:"));
+            assertThat(event).anySatisfy(line -> assertThat(line)
+                .startsWith("data:").contains("\"id\":" + created.id()).contains("\"title\":\"Streamed\""));
+        }
+    }
+
+    @Test
+    @DisplayName("Reconnecting with Last-Event-ID should replay only the events after it")
+    void shouldReplayAfterLastEventId() throws Exception {
+        String firstId;
+        try (Stream<String> lines = open(null)) {
+            Iterator<String> iterator = lines.iterator();
+            createTask("First");
+            createTask("Second");
+            firstId = idOf(nextEvent(iterator));
+            nextEvent(iterator);
+        }
+
+        try (Stream<String> lines = open(firstId)) {
+            List<String> replayed = nextEvent(lines.iterator());
+
+            assertThat(Long.parseLong(idOf(replayed))).isGreaterThan(Long.parseLong(firstId));
+            assertThat(replayed).anySatisfy(line -> assertThat(line).contains("\"title\":\"Second\""));
+        }
+    }
+
+    private TaskResponse createTask(String title) {
+        return taskService.createTask(
+            new TaskRequest(title, "desc", Status.PENDING, LocalDateTime.now().plusDays(1)));
+    }
+
+    private Stream<String> open(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + "/api/v1/tasks/events"))
+            .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = http.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    // reads one event, skipping heartbeat comments; fails rather than hanging if nothing arrives
+    private static List<String> nextEvent(Iterator<String> lines) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> event = new ArrayList<>();
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.isEmpty()) {
+                    if (!event.isEmpty()) {
+                        return event;
+                    }
+                } else if (!line.startsWith(":")) {
+                    event.add(line);
+                }
+            }
+            return event;
+        }).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static String idOf(List<String> event) {
+        return event.stream().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+}
@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.TaskEventType;
+import uk.gov.hmcts.reform.dev.repository.OutboxRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+@SpringBootTest(properties = {
+    "app.outbox.sink=memory", "app.outbox.relay.poll-interval=1h", "app.outbox.relay.max-attempts=2"
+})
+@Testcontainers
+class TaskOutboxIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryTaskEventSink sink;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void drainOutbox() {
+        jdbcTemplate.update("delete from task_outbox where attempts > 0");
+        while (outboxRelay.relayBatch() > 0) {
+            // discard events left by earlier tests
+        }
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("Create, status change and delete should each publish one event with the task payload")
+    void shouldPublishEventPerMutation() {
+        TaskResponse created = taskService.createTask(
+            new TaskRequest("Outboxed", "desc", Status.PENDING, LocalDateTime.now().plusDays(1)));
+        taskService.updateTaskStatusById(created.id(), Status.IN_PROGRESS);
+        taskService.deleteTask(created.id());
+
+        outboxRelay.relayBatch();
+
+        assertThat(sink.events()).extracting(TaskEvent::type)
+            .containsExactly(TaskEventType.CREATED, TaskEventType.STATUS_CHANGED, TaskEventType.DELETED);
+        assertThat(sink.events()).allSatisfy(event -> assertThat(event.taskId()).isEqualTo(created.id()));
+        assertThat(sink.events().get(1).task().status()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(sink.events().get(2).task().title()).isEqualTo("Outboxed");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("An event that can't be relayed should be left behind after max attempts, not block later events")
+    void shouldDeadLetterEventThatKeepsFailing() {
+        jdbcTemplate.update("insert into task_outbox (task_id, event_type, payload)"
+                                + " values (0, 'CREATED', '{\"status\": \"UNKNOWN\"}')");
+        TaskResponse created = taskService.createTask(
+            new TaskRequest("Behind a poison event", null, Status.PENDING, LocalDateTime.now().plusDays(1)));
+
+        outboxRelay.poll();
+        outboxRelay.poll();
+        assertThat(sink.events()).isEmpty();
+        outboxRelay.poll();
+
+        assertThat(sink.events()).extracting(TaskEvent::taskId).containsExactly(created.id());
+        assertThat(jdbcTemplate.queryForList("select attempts from task_outbox", Integer.class)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Concurrent relays should publish every event exactly once")
+    void shouldNotDoubleDeliverWithConcurrentRelays() throws Exception {
+        List<TaskRequest> requests = IntStream.range(0, 1_000)
+            .mapToObj(i -> new TaskRequest("Relayed " + i, null, Status.PENDING, LocalDateTime.now().plusDays(1)))
+            .toList();
+        taskService.createTasks(requests);
+
+        Callable<Void> drain = () -> {
+            while (outboxRelay.relayBatch() > 0) {
+                // keep claiming until the outbox is empty
+            }
+            return null;
+        };
+        try (ExecutorService relays = Executors.newFixedThreadPool(4)) {
+            for (var result : relays.invokeAll(List.of(drain, drain, drain, drain))) {
+                result.get();
+            }
+        }
+
+        assertThat(sink.events()).hasSize(1_000);
+        assertThat(sink.events()).extracting(TaskEvent::id).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.dev.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+@SpringBootTest(properties = "app.idempotency.store=jdbc")
+@Testcontainers
+class JdbcIdempotencyStoreIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private IdempotentRequests idempotentRequests;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ObjectProvider<JdbcIdempotencyStore> jdbcIdempotencyStore;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    @DisplayName("A retry reaching another instance should get the stored response instead of a second task")
+    void shouldReplayAcrossInstances() {
+        // a second instance: its own in-memory cache, the same table
+        IdempotentRequests otherInstance = new IdempotentRequests(
+            objectMapper, jdbcIdempotencyStore, 100, Duration.ofHours(1), Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+        TaskRequest request = new TaskRequest("Once only", "desc", Status.PENDING, LocalDateTime.now().plusDays(1));
+        long before = taskRepository.count();
+
+        TaskResponse first = idempotentRequests.execute("cross-instance", request,
+                                                        () -> taskService.createTask(request));
+        TaskResponse retry = otherInstance.execute("cross-instance", request,
+                                                   () -> taskService.createTask(request));
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(taskRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("A reservation should be released when the keyed request fails, so a retry can run it")
+    void shouldReleaseReservationOnFailure() {
+        JdbcIdempotencyStore store = jdbcIdempotencyStore.getObject();
+
+        assertThat(store.reserve("failing", "a".repeat(64))).isTrue();
+        assertThat(store.reserve("failing", "a".repeat(64))).isFalse();
+        store.release("failing");
+
+        assertThat(store.reserve("failing", "a".repeat(64))).isTrue();
+        assertThat(store.findCompleted("failing")).isEmpty();
+    }
+}
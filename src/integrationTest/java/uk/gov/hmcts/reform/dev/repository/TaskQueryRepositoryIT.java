@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+/**
+ * Runs the filtered task list against a schema built by the Flyway migrations, checking that keyset
+ * pages line up with a full in-memory sort and that the composite indexes remove the sort step. Search
+ * is checked the same way against the GIN index on {@code search_vector}. Plans are taken for the
+ * statements the application actually ran, as captured from the datasource proxy, with their parameters.
+ */
+@SpringBootTest
+@Testcontainers
+class TaskQueryRepositoryIT {
+
+    private static final int TASKS = 2_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final StatementCapture STATEMENTS = new StatementCapture();
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void captureStatements() {
+        ChainListener listeners = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        if (!listeners.getListeners().contains(STATEMENTS)) {
+            listeners.addListener(STATEMENTS);
+        }
+    }
+
+    @BeforeEach
+    void seedTasks() {
+        taskRepository.deleteAllInBatch();
+        Status[] statuses = Status.values();
+        taskRepository.saveAll(IntStream.range(0, TASKS)
+            .mapToObj(i -> Task.builder()
+                .title((i % 7 == 0 ? "Bundle task " : "Listed task ") + i)
+                .description(i % 3 == 0 ? "Prepare the hearing bundle" : i % 5 == 0 ? "Adjourned" : null)
+                .status(statuses[i % statuses.length])
+                // few distinct due dates, so ties on due date must be broken by id across page boundaries
+                .dueDate(BASE.plusHours(i % 97))
+                .build())
+            .toList());
+        jdbcTemplate.execute("analyze task");
+    }
+
+    @Test
+    @DisplayName("Keyset pages sorted by due date should match a full sort of the filtered rows")
+    void shouldPageThroughFilteredTasksByDueDate() {
+        TaskFilter filter = new TaskFilter(Status.PENDING, BASE.plusHours(10), BASE.plusHours(80));
+
+        List<TaskResponse> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskService.getTasks(filter, TaskSort.DUE_DATE, cursor, 37);
+            paged.addAll(page.items());
+            cursor = page.next();
+        } while (cursor != null);
+
+        List<TaskResponse> expected = taskRepository.findAllResponses().stream()
+            .filter(task -> task.status() == Status.PENDING)
+            .filter(task -> !task.dueDate().isBefore(filter.dueFrom()) && task.dueDate().isBefore(filter.dueTo()))
+            .sorted(Comparator.comparing(TaskResponse::dueDate).thenComparing(TaskResponse::id))
+            .toList();
+        assertThat(paged).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Status filter sorted by due date should be served in index order without a sort step")
+    void shouldUseCompositeIndexForStatusAndDueDate() {
+        QueryInfo statement = STATEMENTS.single(() -> taskService.getTasks(
+            new TaskFilter(Status.PENDING, BASE.plusHours(10), null), TaskSort.DUE_DATE, null, 50));
+
+        List<String> plan = explain(statement);
+
+        assertThat(plan).as(statement.getQuery()).anyMatch(line -> line.contains("task_status_due_date_id_idx"));
+        assertThat(plan).as(statement.getQuery()).noneMatch(line -> line.contains("Sort"));
+    }
+
+    @Test
+    @DisplayName("Search pages should match the full ranked result, best match first and ties by id")
+    void shouldPageThroughSearchResultsByRank() {
+        List<TaskResponse> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskService.searchTasks("bundle", cursor, 41);
+            paged.addAll(page.items());
+            cursor = page.next();
+        } while (cursor != null);
+
+        List<TaskSearchHit> all = taskRepository.search("bundle", null, TASKS);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(TaskSearchHit::rank).reversed()
+                                                .thenComparing(hit -> hit.task().id()));
+        assertThat(all.getFirst().task().title()).startsWith("Bundle task");
+        assertThat(paged).isNotEmpty().containsExactlyElementsOf(all.stream().map(TaskSearchHit::task).toList());
+        assertThat(paged).allSatisfy(task -> assertThat(task.title() + " " + task.description()).contains("undle"));
+    }
+
+    @Test
+    @DisplayName("Updating a title should be reflected by search straight away")
+    void shouldSearchUpdatedTitle() {
+        Task task = taskRepository.findAll().getFirst();
+        task.setTitle("Chase interpreter booking");
+        taskRepository.save(task);
+
+        assertThat(taskService.searchTasks("interpreter", null, 10).items())
+            .extracting(TaskResponse::id).containsExactly(task.getId());
+    }
+
+    @Test
+    @DisplayName("Search should find candidates through the GIN index rather than scanning the table")
+    void shouldUseGinIndexForSearch() {
+        QueryInfo statement = STATEMENTS.single(() -> taskService.searchTasks("bundle", null, 10));
+
+        List<String> plan = explain(statement);
+
+        assertThat(plan).as(statement.getQuery()).anyMatch(line -> line.contains("task_search_vector_idx"));
+    }
+
+    private List<String> explain(QueryInfo statement) {
+        Object[] parameters = statement.getParametersList().getFirst().stream()
+            .sorted(Comparator.comparing(operation -> (Integer) operation.getArgs()[0]))
+            .map(operation -> operation.getArgs()[1])
+            .toArray();
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            // the seeded table is small enough that a sequential scan would otherwise always win
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return jdbcTemplate.queryForList("explain " + statement.getQuery(), String.class, parameters);
+        });
+    }
+
+    /**
+     * Keeps the statements run while {@link #single} is capturing.
+     */
+    private static final class StatementCapture implements QueryExecutionListener {
+
+        private final List<QueryInfo> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean capturing;
+
+        QueryInfo single(Runnable action) {
+            statements.clear();
+            capturing = true;
+            try {
+                action.run();
+            } finally {
+                capturing = false;
+            }
+            assertThat(statements).hasSize(1);
+            return statements.getFirst();
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+            if (capturing) {
+                statements.addAll(queryInfoList);
+            }
+        }
+    }
+}
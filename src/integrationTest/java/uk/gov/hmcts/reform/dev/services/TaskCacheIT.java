@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Checks that what {@link TaskServiceImpl} caches matches the stored row exactly, so cached reads carry
+ * the same body and validators as uncached ones.
+ */
+@SpringBootTest
+@Testcontainers
+class TaskCacheIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("The response cached on create should equal the row read back from the database")
+    void shouldCacheTheStoredRepresentationOnCreate() {
+        TaskResponse created = taskService.createTask(new TaskRequest(
+            "Cached on create", "description", Status.PENDING, LocalDateTime.of(2030, 1, 1, 9, 30, 0, 123_456_789)));
+
+        TaskResponse cached = cacheManager.getCache(CacheConfig.TASKS_CACHE).get(created.id(), TaskResponse.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached).isEqualTo(taskRepository.findResponseById(created.id()).orElseThrow());
+        assertThat(new TaskVersion(cached.id(), cached.updatedAt()))
+            .as("the version a conditional GET is checked against")
+            .isEqualTo(taskService.getTaskVersion(created.id()));
+    }
+}
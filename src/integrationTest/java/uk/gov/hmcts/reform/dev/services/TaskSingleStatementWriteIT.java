@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Checks the single statement status update and delete used by {@link TaskServiceImpl} against a real
+ * Postgres instance. Their latency against the previous read-then-write versions is reported by
+ * {@code TaskWriteLatencyPerfTest} under {@code ./gradlew perf}.
+ */
+@SpringBootTest
+@Testcontainers
+class TaskSingleStatementWriteIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    @DisplayName("Single round trip status update should change the stored status")
+    void shouldUpdateStatusInOneStatement() {
+        Long id = seedTask();
+
+        assertThat(taskService.updateTaskStatusById(id, Status.COMPLETED).status()).isEqualTo(Status.COMPLETED);
+        assertThat(taskRepository.findById(id)).get()
+            .extracting(Task::getStatus).isEqualTo(Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Single round trip delete should remove the task")
+    void shouldDeleteInOneStatement() {
+        Long id = seedTask();
+
+        taskService.deleteTask(id);
+
+        assertThat(taskRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Missing tasks should still raise TaskNotFoundException")
+    void shouldKeepNotFoundSemantics() {
+        assertThrows(TaskNotFoundException.class, () -> taskService.updateTaskStatusById(-1L, Status.COMPLETED));
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(-1L));
+    }
+
+    private Long seedTask() {
+        return taskRepository.save(Task.builder()
+            .title("Latency task")
+            .status(Status.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(1))
+            .build()).getId();
+    }
+}
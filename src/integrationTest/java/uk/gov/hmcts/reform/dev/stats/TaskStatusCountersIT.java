@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+@SpringBootTest(properties = "app.stats.reconcile-interval=1h")
+@Testcontainers
+class TaskStatusCountersIT {
+
+    private static final LocalDateTime DUE = LocalDateTime.now().plusDays(1);
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatusCounters counters;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void resetCounts() {
+        taskRepository.deleteAllInBatch();
+        assertThat(counters.reconcile()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Creates, status changes and deletes through the service should keep the counts equal to the table")
+    void shouldTrackEveryWritePath() {
+        TaskResponse first = taskService.createTask(new TaskRequest("First", null, Status.PENDING, DUE));
+        TaskResponse second = taskService.createTask(new TaskRequest("Second", null, Status.PENDING, DUE));
+        taskService.createTasks(List.of(
+            new TaskRequest("Batch 1", null, Status.IN_PROGRESS, DUE),
+            new TaskRequest("Batch 2", null, Status.IN_PROGRESS, DUE),
+            new TaskRequest("Batch 3", null, Status.PENDING, DUE)));
+
+        taskService.updateTaskStatusById(first.id(), Status.IN_PROGRESS);
+        taskService.bulkUpdateStatus(new BulkStatusUpdateRequest(null, Status.IN_PROGRESS, null, Status.COMPLETED));
+        taskService.bulkUpdateStatus(new BulkStatusUpdateRequest(List.of(second.id()), null, null, Status.COMPLETED));
+        taskService.deleteTask(first.id());
+
+        assertThat(counters.snapshot().counts())
+            .isEqualTo(Map.of(Status.PENDING, 1L, Status.IN_PROGRESS, 0L, Status.COMPLETED, 3L))
+            .isEqualTo(countsInTable());
+        assertThat(counters.snapshot().total()).isEqualTo(taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Reconciliation should pick up rows written behind the service's back")
+    void shouldReconcileWithRowsWrittenElsewhere() {
+        taskService.createTask(new TaskRequest("Tracked", null, Status.PENDING, DUE));
+        taskRepository.deleteAllInBatch();
+
+        assertThat(counters.snapshot().total()).isEqualTo(1);
+        assertThat(counters.reconcile()).isTrue();
+        assertThat(counters.snapshot().total()).isZero();
+    }
+
+    private Map<Status, Long> countsInTable() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        taskRepository.countByStatus().forEach(row -> counts.put(row.status(), row.count()));
+        return counts;
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Encodes and decodes a page of 100 tasks in each format the controller negotiates, with mappers configured
+ * as in {@code JacksonConfig}. Setup prints the encoded size so bytes can be compared alongside throughput.
+ */
+@State(Scope.Benchmark)
+public class TaskBinaryFormatBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private List<TaskResponse> responses;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .modulesToInstall(new BlackbirdModule())
+            .build();
+        CollectionType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class);
+        listWriter = objectMapper.writerFor(listType);
+        listReader = objectMapper.readerFor(listType);
+
+        LocalDateTime now = LocalDateTime.of(2025, 10, 1, 12, 30, 15);
+        responses = LongStream.rangeClosed(1, LIST_SIZE)
+            .mapToObj(id -> new TaskResponse(id, "Task " + id, "Collate the hearing bundle for case " + id,
+                                             Status.values()[(int) (id % Status.values().length)],
+                                             now.plusHours(id), now, now.plusMinutes(id)))
+            .toList();
+        encoded = listWriter.writeValueAsBytes(responses);
+        System.out.printf("%d tasks as %s: %d bytes%n", LIST_SIZE, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeList() throws IOException {
+        return listWriter.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<TaskResponse> decodeList() throws IOException {
+        return listReader.readValue(encoded);
+    }
+}
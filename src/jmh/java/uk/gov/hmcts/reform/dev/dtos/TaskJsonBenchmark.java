@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Uses an {@link ObjectMapper} built the way Spring Boot builds its own, so JSR-310 dates are written
+ * as ISO-8601 strings exactly as on the wire. {@code accessors} compares Jackson's reflective accessors
+ * with the Blackbird module registered by {@code JacksonConfig}; {@code gzipList} is the extra CPU that
+ * response compression spends on a list page, and setup prints the plain and gzipped sizes of that page.
+ */
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    @Param({"reflection", "blackbird"})
+    private String accessors;
+
+    private ObjectWriter responseWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader requestReader;
+    private TaskResponse response;
+    private List<TaskResponse> responses;
+    private byte[] listJson;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(accessors)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        responseWriter = objectMapper.writerFor(TaskResponse.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                                                .constructCollectionType(List.class, TaskResponse.class));
+        requestReader = objectMapper.readerFor(TaskRequest.class);
+
+        LocalDateTime now = LocalDateTime.of(2025, 10, 1, 12, 30, 15);
+        response = new TaskResponse(42L, "Prepare bundle", "Collate the hearing bundle", Status.PENDING,
+                                    now.plusDays(3), now, now);
+        responses = LongStream.rangeClosed(1, LIST_SIZE)
+            .mapToObj(id -> new TaskResponse(id, "Task " + id, "Collate the hearing bundle for case " + id,
+                                             Status.values()[(int) (id % Status.values().length)],
+                                             now.plusHours(id), now, now.plusMinutes(id)))
+            .toList();
+        listJson = listWriter.writeValueAsBytes(responses);
+        requestJson = objectMapper.writeValueAsBytes(
+            new TaskRequest("Prepare bundle", "Collate the hearing bundle", Status.PENDING, now.plusDays(3)));
+        System.out.printf("%d tasks: %d bytes as JSON, %d bytes gzipped%n",
+                          LIST_SIZE, listJson.length, gzipList().length);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return listWriter.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public TaskRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] gzipList() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(listJson.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(listJson);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.gov.hmcts.reform.dev.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+
+/**
+ * Error-body creation for the two most common failures. {@code taskNotFoundWithThrow} also constructs
+ * the exception, which is where the stack trace is captured, as happens on every failed request.
+ */
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private TaskNotFoundException notFound;
+    private MethodArgumentNotValidException invalidBody;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        notFound = new TaskNotFoundException(42L);
+
+        TaskRequest request = new TaskRequest("", null, null, null);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "taskRequest");
+        bindingResult.addError(new FieldError("taskRequest", "title", "Title is a mandatory field"));
+        bindingResult.addError(
+            new FieldError("taskRequest", "dueDate", "Due date is mandatory for non-completed tasks"));
+        MethodParameter parameter =
+            new MethodParameter(TaskController.class.getMethod("createTask", TaskRequest.class), 0);
+        invalidBody = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> taskNotFound() {
+        return handler.taskNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> taskNotFoundWithThrow() {
+        return handler.taskNotFoundException(new TaskNotFoundException(42L));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> validationFailure() {
+        return handler.validationException(invalidBody);
+    }
+}
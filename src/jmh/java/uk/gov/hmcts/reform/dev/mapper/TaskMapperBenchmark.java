@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.mapper;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private TaskRequest request;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        request = new TaskRequest("Prepare bundle", "Collate the hearing bundle", Status.PENDING, now.plusDays(3));
+        task = new Task(42L, "Prepare bundle", "Collate the hearing bundle", Status.PENDING, now.plusDays(3), now, now);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponse toDto() {
+        return taskMapper.toDto(task);
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * The previous managed-entity read (read-write transaction, findById, then TaskMapper) against the
+ * read-only constructor projection now used by {@link TaskServiceImpl}; compare the two on
+ * {@code gc.alloc.rate.norm}. Each fork starts a Postgres container and the application without its web
+ * server, so this needs Docker and is best run alone: {@code ./gradlew jmh -PjmhIncludes=TaskReadPath}.
+ */
+@State(Scope.Benchmark)
+public class TaskReadPathBenchmark {
+
+    private static final int TASKS = 200;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+        postgres.start();
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "logging.level.root=WARN")
+            .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Task> tasks = IntStream.range(0, TASKS)
+            .mapToObj(i -> Task.builder()
+                .title("Read path task " + i)
+                .description("description " + i)
+                .status(Status.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build())
+            .toList();
+        ids = taskRepository.saveAll(tasks).stream().mapToLong(Task::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public TaskResponse entityRead() {
+        long id = randomId();
+        return readWrite.execute(status -> taskMapper.toDto(taskRepository.findById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public TaskResponse projectionRead() {
+        long id = randomId();
+        return readOnly.execute(status -> taskRepository.findResponseById(id).orElseThrow());
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.validators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * {@code isValid} measures the class-level rule on its own; the {@code validate*} benchmarks go through
+ * Hibernate Validator as {@code @Valid} does, including {@code @NotBlank} and violation construction.
+ */
+@State(Scope.Benchmark)
+public class TaskValidatorBenchmark {
+
+    private final TaskValidator taskValidator = new TaskValidator();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TaskRequest validRequest;
+    private TaskRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new TaskRequest("Prepare bundle", "Collate the hearing bundle", Status.PENDING,
+                                       LocalDateTime.now().plusYears(1));
+        invalidRequest = new TaskRequest("", null, Status.PENDING, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        // a valid request never touches the context, so none is needed
+        return taskValidator.isValid(validRequest, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> validateValid() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> validateInvalid() {
+        return validator.validate(invalidRequest);
+    }
+}
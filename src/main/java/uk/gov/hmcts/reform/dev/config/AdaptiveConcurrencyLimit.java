@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase/multiplicative-decrease limit on in-flight requests, in the style of TCP congestion
+ * control. A request that finishes within {@code latencyThreshold} while the limit is at least half used
+ * raises the limit by {@code 1/limit}, about one per limit's worth of requests. A slow or overloaded
+ * request multiplies it by {@code backoffRatio}.
+ *
+ * <p>At most one decrease happens per round trip. Only a request that started after the previous decrease
+ * can trigger the next one, so a burst of slow responses already in flight shrinks the limit once rather
+ * than collapsing it to the minimum.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                    double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes an in-flight slot without waiting, or returns false when the limit is reached.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot taken for a request that started at {@code startNanos} (a {@link System#nanoTime()}
+     * reading) and adjusts the limit from how it went.
+     */
+    public void release(long startNanos, boolean overloaded) {
+        long now = System.nanoTime();
+        int inFlightBefore = inFlight.getAndDecrement();
+        adjust(startNanos, now, overloaded, inFlightBefore);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void adjust(long startNanos, long endNanos, boolean overloaded, int inFlightBefore) {
+        if (overloaded || endNanos - startNanos > latencyThresholdNanos) {
+            if (startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (inFlightBefore * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+}
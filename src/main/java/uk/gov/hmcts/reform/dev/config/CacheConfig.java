@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache advice is ordered outside the database bulkhead and the transaction advice, so evictions happen
+ * after the writing transaction has committed and cache hits never wait for a bulkhead permit. Caches are
+ * {@link CommitAwareCaffeineCache}s, which also hold back changes made inside a caller's transaction until
+ * it commits. The cache manager replaces Spring Boot's but is configured from the same
+ * {@code spring.cache.*} properties.
+ */
+@Configuration
+@EnableCaching(order = DatabaseBulkhead.ORDER - 1)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CommitAwareCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        if (!CollectionUtils.isEmpty(cacheProperties.getCacheNames())) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return cacheManager;
+    }
+}
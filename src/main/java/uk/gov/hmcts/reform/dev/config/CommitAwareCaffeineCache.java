@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A {@link CaffeineCache} that is only changed by committed writes and does not keep a value loaded
+ * while one committed. Puts, evictions and clears requested inside a transaction are applied once it
+ * commits and dropped if it rolls back, so a concurrent read can't re-cache the old row between the
+ * eviction and the commit. Each eviction also advances a generation counter for the key's stripe; a
+ * value loaded on a miss is evicted again if its stripe's generation moved while it was being loaded,
+ * as the load may have read the row before that write was visible.
+ *
+ * <p>Misses are loaded from the primary even when a read replica is configured: a lagging replica could
+ * otherwise cache a row older than a write it has not yet applied, and serve it to the client that made
+ * the write however it asks for read-your-writes.
+ */
+class CommitAwareCaffeineCache extends CaffeineCache {
+
+    static final int STRIPES = 64;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    CommitAwareCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                             boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        T value = super.get(key, () -> ReplicaRoutingDataSource.callOnPrimary(valueLoader));
+        if (generations.get(stripe) != generation) {
+            getNativeCache().invalidate(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        afterCommit(() -> super.put(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        afterCommit(() -> evictIfPresent(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generations.incrementAndGet(stripe(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(this::invalidate);
+    }
+
+    @Override
+    public boolean invalidate() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        return super.invalidate();
+    }
+
+    static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
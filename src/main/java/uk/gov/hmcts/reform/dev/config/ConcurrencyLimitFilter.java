@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.exception.ErrorResponse;
+
+/**
+ * Sheds task API requests beyond an {@link AdaptiveConcurrencyLimit} with an immediate 503 and
+ * {@code Retry-After}, so a slow database costs a few callers a fast failure instead of queueing every
+ * caller for a connection. Each request's latency, measured around the controller and the service calls
+ * it makes, drives the limit; a 5xx response, including a full database bulkhead, counts as overload.
+ * The long-lived {@code /events} and {@code /export} streams are not limited.
+ */
+@Component
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String TASK_API = "/api/v1/tasks";
+    private static final List<String> UNLIMITED = List.of(TASK_API + "/events", TASK_API + "/export");
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(@Value("${app.concurrency-limit.initial-limit}") int initialLimit,
+                                  @Value("${app.concurrency-limit.min-limit}") int minLimit,
+                                  @Value("${app.concurrency-limit.max-limit}") int maxLimit,
+                                  @Value("${app.concurrency-limit.latency-threshold}") Duration latencyThreshold,
+                                  @Value("${app.concurrency-limit.backoff-ratio}") double backoffRatio,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("task.api.concurrency.rejected")
+            .description("Task API requests shed because the concurrency limit was reached")
+            .register(meterRegistry);
+        Gauge.builder("task.api.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+            .description("Task API requests currently allowed in flight")
+            .register(meterRegistry);
+        Gauge.builder("task.api.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+            .description("Task API requests in flight")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(TASK_API) || UNLIMITED.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            chain.doFilter(request, response);
+            overloaded = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limit.release(start, overloaded);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+            status.value(), "Server is at its concurrency limit, retry shortly", List.of(), Instant.now()));
+    }
+}
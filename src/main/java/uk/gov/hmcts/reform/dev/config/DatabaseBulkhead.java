@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.exception.BulkheadFullException;
+
+/**
+ * Caps the number of service calls that may hold a database connection at once to the size of the
+ * connection pool. Callers beyond that wait on a fair semaphore, which is cheap for virtual threads,
+ * and give up with {@link BulkheadFullException} after {@code app.bulkhead.max-wait} instead of
+ * blocking for Hikari's full {@code connectionTimeout}.
+ *
+ * <p>Permits are taken at the service boundary rather than per repository call because a transaction
+ * keeps its connection from its first statement until commit. The advice runs just outside the
+ * transaction advice, and nested service calls on the same thread reuse the permit already held.
+ */
+@Aspect
+@Component
+@Order(DatabaseBulkhead.ORDER)
+public class DatabaseBulkhead {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+
+    public DatabaseBulkhead(@Value("${app.bulkhead.max-concurrent-calls}") int maxConcurrentCalls,
+                            @Value("${app.bulkhead.max-wait}") Duration maxWait,
+                            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWait = maxWait;
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits)
+            .description("Database bulkhead permits not currently held")
+            .register(meterRegistry);
+        Gauge.builder("db.bulkhead.queued", permits, Semaphore::getQueueLength)
+            .description("Callers waiting for a database bulkhead permit")
+            .register(meterRegistry);
+    }
+
+    @Around("within(uk.gov.hmcts.reform.dev.services..*)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (holdsPermit.get()) {
+            return joinPoint.proceed();
+        }
+        if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new BulkheadFullException(maxWait);
+        }
+        holdsPermit.set(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            holdsPermit.remove();
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Spring Boot registers every {@link Module} bean with its {@code ObjectMapper}. Blackbird replaces
+ * Jackson's reflective record accessor and constructor calls with generated lambdas, which is where most
+ * of the per-field cost of writing a {@code TaskResponse} goes. Dates need nothing extra: the JSR-310
+ * serializers already share one ISO formatter.
+ *
+ * <p>The CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) converters are
+ * built from Boot's mapper builder, so binary payloads carry the same fields and date strings as JSON.
+ * They are registered after the JSON converter, which therefore stays the default when a client sends
+ * no {@code Accept} header or accepts any type.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
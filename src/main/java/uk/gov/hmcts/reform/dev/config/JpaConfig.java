@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@Configuration
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
+public class JpaConfig {
+
+    /**
+     * Audit timestamps at the microsecond precision of the {@code timestamp(6)} columns, so a response
+     * built from a just-saved entity carries the same {@code createdAt}/{@code updatedAt}, and ETag, as
+     * the row read back later.
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
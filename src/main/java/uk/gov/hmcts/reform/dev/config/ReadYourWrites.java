@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.util.function.LongConsumer;
+
+/**
+ * When the current client last wrote, in epoch milliseconds, so {@link ReplicaRoutingDataSource} keeps
+ * only that client's reads on the primary while the replica may still be behind. In an HTTP request the
+ * client is the caller: {@link ReadYourWritesFilter} takes the time from the {@value #LAST_WRITE_HEADER}
+ * header it sent back and returns the new time after a write. Anywhere else, such as a scheduler
+ * thread, the thread itself is the client.
+ */
+final class ReadYourWrites {
+
+    static final String LAST_WRITE_HEADER = "Last-Write-At";
+
+    private static final LongConsumer IGNORE = at -> { };
+    private static final ThreadLocal<ReadYourWrites> CURRENT = ThreadLocal.withInitial(ReadYourWrites::new);
+
+    private long lastWriteAt;
+    private LongConsumer onWrite = IGNORE;
+
+    private ReadYourWrites() {
+    }
+
+    static void beginRequest(long clientLastWriteAt, LongConsumer onWrite) {
+        ReadYourWrites current = new ReadYourWrites();
+        current.lastWriteAt = clientLastWriteAt;
+        current.onWrite = onWrite;
+        CURRENT.set(current);
+    }
+
+    static void endRequest() {
+        CURRENT.remove();
+    }
+
+    static long lastWriteAt() {
+        return CURRENT.get().lastWriteAt;
+    }
+
+    static void recordWrite(long at) {
+        ReadYourWrites current = CURRENT.get();
+        if (at > current.lastWriteAt) {
+            current.lastWriteAt = at;
+            current.onWrite.accept(at);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Scopes the replica's read-your-writes window to the calling client. A request that writes gets the
+ * write time back in the {@value ReadYourWrites#LAST_WRITE_HEADER} response header; a client that sends
+ * it on its next requests has their reads served by the primary until the window has passed, on any
+ * instance. Clients that do not send it read from the replica. A time later than this instance's clock
+ * is capped to it, so a client can hold its own reads on the primary for one window at most.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        ReadYourWrites.beginRequest(clientLastWriteAt(request), at -> {
+            if (!response.isCommitted()) {
+                response.setHeader(ReadYourWrites.LAST_WRITE_HEADER, Long.toString(at));
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.endRequest();
+        }
+    }
+
+    private static long clientLastWriteAt(HttpServletRequest request) {
+        String header = request.getHeader(ReadYourWrites.LAST_WRITE_HEADER);
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Math.min(Long.parseLong(header.trim()), System.currentTimeMillis());
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Adds a read replica next to the primary datasource when {@code app.datasource.replica.url} is set.
+ * Without that property Spring Boot's single auto-configured datasource is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    // Hikari waits 30 s for a connection by default; a replica that is down should fail over to the
+    // primary well before a request times out. app.datasource.replica.hikari.connection-timeout overrides it.
+    static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(1);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        DataSourceProperties properties,
+        @Value("${app.datasource.replica.url}") String url,
+        @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.getDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        replica.setPoolName("DevHikariReplica");
+        replica.setReadOnly(true);
+        replica.setAutoCommit(false);
+        replica.setInitializationFailTimeout(0);
+        replica.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${app.datasource.replica.read-your-writes-window:2s}") Duration readYourWritesWindow,
+        @Value("${app.datasource.replica.retry-interval:30s}") Duration retryInterval) {
+        ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesWindow, retryInterval);
+        routing.afterPropertiesSet();
+
+        // defer picking a route until the first statement, by which time the transaction's read-only flag is set
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+        lazy.setTargetDataSource(routing);
+        lazy.setDefaultAutoCommit(false);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazy.afterPropertiesSet();
+        return lazy;
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ *
+ * <p>Two guards keep reads correct: for {@code readYourWritesWindow} after a client's read-write
+ * transaction that client's reads stay on the primary so it sees its own writes despite replication lag
+ * (see {@link ReadYourWrites} for what counts as a client), and a replica that fails to hand out a
+ * connection is bypassed for {@code replicaRetryInterval} before being tried again. Reads made through
+ * {@link #callOnPrimary} always go to the primary; the task cache fills itself that way, so a lagging
+ * replica can never put a stale row in front of a client entitled to read its own writes.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy} so the route is chosen after the transaction's
+ * read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesWindowMillis;
+    private final long replicaRetryIntervalNanos;
+
+    private volatile long replicaDownUntil = System.nanoTime();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    Duration readYourWritesWindow, Duration replicaRetryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+        this.replicaRetryIntervalNanos = replicaRetryInterval.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // wall-clock time, as the client may carry it to another instance
+        long now = System.currentTimeMillis();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWrites.recordWrite(now);
+            return Route.PRIMARY;
+        }
+        if (PRIMARY_ONLY.get() != null || now - ReadYourWrites.lastWriteAt() < readYourWritesWindowMillis) {
+            return Route.PRIMARY;
+        }
+        if (System.nanoTime() - replicaDownUntil < 0) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Runs {@code reads} with every connection it opens taken from the primary, including those of
+     * read-only transactions.
+     */
+    static <T> T callOnPrimary(Callable<T> reads) throws Exception {
+        boolean outermost = PRIMARY_ONLY.get() == null;
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return reads.call();
+        } finally {
+            if (outermost) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException exception) {
+                markReplicaDown(exception);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException exception) {
+                markReplicaDown(exception);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    private void markReplicaDown(SQLException exception) {
+        replicaDownUntil = System.nanoTime() + replicaRetryIntervalNanos;
+        log.warn("Read replica unavailable, routing reads to the primary for {} ms: {}",
+                 Duration.ofNanos(replicaRetryIntervalNanos).toMillis(), exception.getMessage());
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Times every public service method as {@code task.service} with a percentile histogram, tagged by
+ * class, method, outcome and exception type. The timer's count series doubles as the per-outcome call
+ * counter. It is the outermost advice, so cache hits, bulkhead waits and rejections are all included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetrics {
+
+    public static final String TIMER_NAME = "task.service";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(uk.gov.hmcts.reform.dev.services..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            outcome = outcome(throwable);
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                .description("Latency of task service calls")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Failures the API reports as 4xx (not found, invalid request) are the caller's; everything else,
+     * including a full bulkhead, is ours.
+     */
+    private static String outcome(Throwable throwable) {
+        ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(throwable.getClass(), ResponseStatus.class);
+        return status != null && status.code().is4xxClientError() ? "client_error" : "server_error";
+    }
+}
@@ -0,0 +1,209 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects JDBC statement statistics from the datasource proxy. Each distinct statement, after
+ * whitespace and {@code in (?, ?, ...)} lists are normalised, gets an {@code sql.statements} timer with
+ * a percentile histogram plus running totals for the {@code sqlstats} actuator endpoint. At most
+ * {@value #MAX_TRACKED_STATEMENTS} statements are tracked individually; the rest share one bucket.
+ *
+ * <p>Statements are also counted per request for the thread that called {@link #beginRequest()}.
+ */
+@Component
+public class SqlStatistics implements QueryExecutionListener {
+
+    static final int MAX_TRACKED_STATEMENTS = 200;
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+    private final ThreadLocal<int[]> requestStatements = new ThreadLocal<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder requestStatementTotal = new LongAdder();
+    private final AtomicLong requestStatementMax = new AtomicLong();
+
+    public SqlStatistics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        startedAt.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        Long start = startedAt.get();
+        startedAt.remove();
+        long elapsedNanos = start != null
+            ? System.nanoTime() - start
+            : TimeUnit.MILLISECONDS.toNanos(executionInfo.getElapsedTime());
+
+        String sql = normalise(queryInfoList);
+        StatementStats stats = statements.get(sql);
+        if (stats == null) {
+            String key = statements.size() < MAX_TRACKED_STATEMENTS ? sql : OTHER_STATEMENTS;
+            stats = statements.computeIfAbsent(key, this::newStatementStats);
+        }
+        stats.record(elapsedNanos, executionInfo.isSuccess());
+
+        int[] counter = requestStatements.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    /**
+     * Starts counting statements run on the current thread.
+     */
+    public void beginRequest() {
+        requestStatements.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on the current thread and returns the number of statements run since
+     * {@link #beginRequest()}, recording it against {@code uri}.
+     */
+    public int endRequest(String uri) {
+        int[] counter = requestStatements.get();
+        requestStatements.remove();
+        int count = counter == null ? 0 : counter[0];
+        requests.increment();
+        requestStatementTotal.add(count);
+        requestStatementMax.accumulateAndGet(count, Math::max);
+        DistributionSummary.builder("sql.statements.per.request")
+            .description("JDBC statements executed while serving one request")
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(count);
+        return count;
+    }
+
+    public Snapshot snapshot(int top) {
+        List<StatementSummary> all = statements.values().stream().map(StatementStats::summary).toList();
+        long executions = all.stream().mapToLong(StatementSummary::executions).sum();
+        long requestCount = requests.sum();
+        return new Snapshot(
+            executions,
+            all.stream().mapToDouble(StatementSummary::totalMillis).sum(),
+            new RequestSummary(
+                requestCount,
+                requestCount == 0 ? 0 : requestStatementTotal.sum() / (double) requestCount,
+                requestStatementMax.get()),
+            topBy(all, StatementSummary::maxMillis, top),
+            topBy(all, StatementSummary::totalMillis, top),
+            topBy(all, StatementSummary::executions, top)
+        );
+    }
+
+    public void reset() {
+        statements.clear();
+        requests.reset();
+        requestStatementTotal.reset();
+        requestStatementMax.set(0);
+    }
+
+    private StatementStats newStatementStats(String sql) {
+        String id = String.format("%08x", sql.hashCode());
+        Timer timer = Timer.builder("sql.statements")
+            .description("JDBC statement execution time")
+            .tag("type", sql.equals(OTHER_STATEMENTS) ? "other" : type(sql))
+            .tag("statement", id)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        return new StatementStats(id, sql, timer);
+    }
+
+    private static List<StatementSummary> topBy(List<StatementSummary> all,
+                                                ToDoubleFunction<StatementSummary> key, int top) {
+        return all.stream().sorted(Comparator.comparingDouble(key).reversed()).limit(top).toList();
+    }
+
+    static String normalise(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+            .map(query -> IN_LIST.matcher(WHITESPACE.matcher(query.getQuery()).replaceAll(" ").trim())
+                .replaceAll("(?)"))
+            .distinct()
+            .collect(Collectors.joining("; "));
+    }
+
+    private static String type(String sql) {
+        int space = sql.indexOf(' ');
+        String keyword = (space < 0 ? sql : sql.substring(0, space)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete", "with" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private static final class StatementStats {
+
+        private final String id;
+        private final String sql;
+        private final Timer timer;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private StatementStats(String id, String sql, Timer timer) {
+            this.id = id;
+            this.sql = sql;
+            this.timer = timer;
+        }
+
+        void record(long elapsedNanos, boolean success) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (!success) {
+                failures.increment();
+            }
+        }
+
+        StatementSummary summary() {
+            long count = executions.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new StatementSummary(id, sql, count, failures.sum(), total, count == 0 ? 0 : total / count,
+                                        maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    public record Snapshot(long executions, double totalMillis, RequestSummary requests,
+                           List<StatementSummary> slowest, List<StatementSummary> mostTime,
+                           List<StatementSummary> mostFrequent) {
+    }
+
+    public record RequestSummary(long count, double meanStatements, long maxStatements) {
+    }
+
+    public record StatementSummary(String id, String sql, long executions, long failures, double totalMillis,
+                                   double meanMillis, double maxMillis) {
+    }
+}
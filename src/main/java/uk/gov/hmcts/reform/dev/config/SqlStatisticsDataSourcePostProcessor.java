@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import javax.sql.DataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application's {@code dataSource} bean in a datasource-proxy that reports every statement
+ * to {@link SqlStatistics}. Only the bean the application uses is wrapped; pools behind it, such as the
+ * primary and replica pools, are left alone so their Hikari metrics still bind.
+ */
+@Component
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatistics> sqlStatistics;
+
+    public SqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatistics> sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+            && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(sqlStatistics.getObject())
+                .build();
+        }
+        return bean;
+    }
+}
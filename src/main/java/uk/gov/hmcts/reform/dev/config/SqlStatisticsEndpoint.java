@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /sqlstats} returns statement totals, statements per request and the top statements by
+ * slowest single execution, total time and execution count; {@code DELETE /sqlstats} clears them.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    private static final int TOP = 10;
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @ReadOperation
+    public SqlStatistics.Snapshot sqlStats() {
+        return sqlStatistics.snapshot(TOP);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+}
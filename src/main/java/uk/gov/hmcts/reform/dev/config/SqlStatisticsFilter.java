@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the JDBC statements each request runs and warns when a request runs more than
+ * {@code app.sql.statements-per-request-warning} of them, the usual sign of an N+1 access pattern.
+ * The count is left on the request as {@link #STATEMENT_COUNT_ATTRIBUTE} so tests can assert on it.
+ * Statements run on an async thread, such as a streamed export, are not attributed to the request.
+ */
+@Slf4j
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatisticsFilter.class.getName() + ".statementCount";
+
+    private final SqlStatistics sqlStatistics;
+    private final int warningThreshold;
+
+    public SqlStatisticsFilter(SqlStatistics sqlStatistics,
+                               @Value("${app.sql.statements-per-request-warning}") int warningThreshold) {
+        this.sqlStatistics = sqlStatistics;
+        this.warningThreshold = warningThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        sqlStatistics.beginRequest();
+        int count = 0;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            count = sqlStatistics.endRequest(uri);
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+            if (count > warningThreshold) {
+                log.warn("{} {} ran {} SQL statements (warning threshold {}), check for N+1 queries",
+                         request.getMethod(), uri, count, warningThreshold);
+            }
+        }
+    }
+}
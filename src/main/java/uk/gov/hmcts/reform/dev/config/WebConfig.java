@@ -17,6 +17,7 @@ public class WebConfig {
                     .allowedOrigins("http://localhost:4200") // Angular dev server
                     .allowedMethods("GET", "POST", "PATCH", "DELETE", "OPTIONS")
                     .allowedHeaders("*")
+                    .exposedHeaders("ETag", "Last-Modified", "Last-Write-At")
                     .allowCredentials(true); // only if using cookies/auth
             }
         };
@@ -4,10 +4,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,19 +20,36 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import org.springframework.web.bind.annotation.GetMapping;
 
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 
 
+import uk.gov.hmcts.reform.dev.dtos.BatchCreateResponse;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dtos.ExportFormat;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.dtos.TaskStats;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+import uk.gov.hmcts.reform.dev.events.TaskEventStream;
+import uk.gov.hmcts.reform.dev.idempotency.IdempotentRequests;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.services.TaskExportService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
 
 @Tag(name = "Tasks",description = "Operations to manage tasks")
 @RestController
@@ -36,13 +58,27 @@ import uk.gov.hmcts.reform.dev.services.TaskService;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskEventStream taskEventStream;
+    private final IdempotentRequests idempotentRequests;
+    private final TaskStatusCounters taskStatusCounters;
 
 
-    @Operation(summary = "Create a task")
+    @Operation(summary = "Create a task; retries carrying the same Idempotency-Key get the first response back")
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
-        @RequestBody @Valid TaskRequest taskRequest) {
-        return new ResponseEntity<>(taskService.createTask(taskRequest), HttpStatus.CREATED);
+        @RequestBody @Valid TaskRequest taskRequest,
+        @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        TaskResponse created = idempotencyKey == null
+            ? taskService.createTask(taskRequest)
+            : idempotentRequests.execute(idempotencyKey, taskRequest, () -> taskService.createTask(taskRequest));
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Create many tasks in one request, validating and reporting on each item")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createTasks(@RequestBody List<TaskRequest> taskRequests) {
+        return ResponseEntity.ok(taskService.createTasks(taskRequests));
     }
 
     @Operation(summary = "Update status of a task")
@@ -52,16 +88,87 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTaskStatusById(id, status));
     }
 
+    @Operation(summary = "Move a list of tasks, or every task matching a filter, to a new status")
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(
+        @RequestBody @Valid BulkStatusUpdateRequest request) {
+        return ResponseEntity.ok(taskService.bulkUpdateStatus(request));
+    }
+
     @Operation(summary = "Get a task by it's  Id")
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        if (isConditional(request)) {
+            // answer revalidation from the (id, updatedAt) projection without building the full response
+            TaskVersion version = taskService.getTaskVersion(id);
+            if (request.checkNotModified(TaskETags.of(version), TaskETags.lastModified(version.updatedAt()))) {
+                return null;
+            }
+        }
+        TaskResponse task = taskService.getTaskById(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(TaskETags.of(task));
+        if (task.updatedAt() != null) {
+            response.lastModified(TaskETags.lastModified(task.updatedAt()));
+        }
+        return response.body(task);
     }
 
-    @Operation(summary = "Get all tasks")
+    @Operation(summary = "Get a page of tasks, optionally filtered by status and due date range "
+        + "(dueFrom inclusive, dueTo exclusive) and sorted by ID or DUE_DATE, continuing from the given cursor")
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<TaskPage> getTasks(
+        @RequestParam(required = false) Status status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+        @RequestParam(defaultValue = "ID") TaskSort sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit) {
+        TaskPage page = taskService.getTasks(new TaskFilter(status, dueFrom, dueTo), sort, cursor, limit);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(TaskETags.of(page)).body(page);
+    }
+
+    @Operation(summary = "Search task titles and descriptions, best match first, continuing from the given cursor; "
+        + "q accepts web search syntax such as quoted phrases, or and -word")
+    @GetMapping("/search")
+    public ResponseEntity<TaskPage> searchTasks(
+        @RequestParam String q,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskService.searchTasks(q, cursor, limit));
+    }
+
+    @Operation(summary = "Count tasks in each status from in-memory counters, without querying the table")
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats() {
+        return ResponseEntity.ok(taskStatusCounters.snapshot());
+    }
+
+    @Operation(summary = "Get all tasks in a single unpaged response")
+    @GetMapping(params = "unpaged=true")
+    public ResponseEntity<List<TaskResponse>> getAllTasks(WebRequest request) {
+        String eTag = TaskETags.of(taskService.getTaskListVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(taskService.getAllTasks());
+    }
+
+    @Operation(summary = "Stream every task as NDJSON or CSV")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + format.getExtension())
+            .body(outputStream -> taskExportService.exportTasks(format, outputStream));
+    }
+
+    @Operation(summary = "Stream task changes as Server-Sent Events, resuming after Last-Event-ID")
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventStream.subscribe(lastEventId);
     }
 
     @Operation(summary = "Delete  task by It's id")
@@ -70,4 +177,9 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import uk.gov.hmcts.reform.dev.dtos.TaskListVersion;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+
+/**
+ * Builds HTTP validators for task resources. Every write moves {@code updatedAt}, so a task's id and
+ * {@code updatedAt} together identify one representation of it.
+ */
+final class TaskETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private TaskETags() {
+    }
+
+    static String of(TaskVersion version) {
+        return of(version.id(), version.updatedAt());
+    }
+
+    static String of(TaskResponse task) {
+        return of(task.id(), task.updatedAt());
+    }
+
+    static String of(TaskListVersion version) {
+        return "W/\"" + version.count() + "-" + version.maxId() + "-" + epochNanos(version.lastUpdatedAt()) + "\"";
+    }
+
+    static String of(TaskPage page) {
+        long hash = FNV_OFFSET_BASIS;
+        for (TaskResponse item : page.items()) {
+            hash = fnv(hash, item.id() + ":" + epochNanos(item.updatedAt()) + ";");
+        }
+        hash = fnv(hash, String.valueOf(page.next()));
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String of(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + epochNanos(updatedAt) + "\"";
+    }
+
+    private static long epochNanos(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return 0;
+        }
+        var instant = timestamp.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static long fnv(long hash, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.util.List;
+
+public record BatchCreateResponse(
+    int created,
+    int failed,
+    List<BatchItemResult> results
+) {
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.util.List;
+
+public record BatchItemResult(
+    int index,
+    TaskResponse task,
+    List<String> errors
+) {
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.models.Status;
+
+public record BulkStatusUpdateRequest(
+    List<Long> ids,
+    Status currentStatus,
+    LocalDateTime dueBefore,
+    @NotNull(message = "Target status is a mandatory field")
+    Status targetStatus
+) {
+}
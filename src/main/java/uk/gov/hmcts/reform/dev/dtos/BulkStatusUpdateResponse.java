@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.util.List;
+
+/**
+ * The tasks a bulk status update moved. A filter update moves at most 1000 tasks per request; {@code more}
+ * is true when it stopped at that limit, and sending the same request again moves the next ones, as tasks
+ * already in the target status no longer match.
+ */
+public record BulkStatusUpdateResponse(
+    int updated,
+    List<Long> ids,
+    boolean more
+) {
+}
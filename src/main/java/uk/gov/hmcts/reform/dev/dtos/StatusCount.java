@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import uk.gov.hmcts.reform.dev.models.Status;
+
+public record StatusCount(
+    Status status,
+    Long count
+) {
+}
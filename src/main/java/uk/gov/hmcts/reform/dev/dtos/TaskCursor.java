@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+
+/**
+ * Opaque keyset position handed to clients as the {@code next} token of a {@link TaskPage}. It records
+ * the sort it was issued for, along with the sort key of the last row returned.
+ */
+public record TaskCursor(TaskSort sort, Long afterId, LocalDateTime afterDueDate) {
+
+    private static final String ID_PREFIX = "i:";
+    private static final String DUE_DATE_PREFIX = "d:";
+
+    public TaskCursor(Long afterId) {
+        this(TaskSort.ID, afterId, null);
+    }
+
+    public static TaskCursor after(TaskSort sort, TaskResponse last) {
+        return new TaskCursor(sort, last.id(), sort == TaskSort.DUE_DATE ? last.dueDate() : null);
+    }
+
+    public String encode() {
+        String raw = sort == TaskSort.DUE_DATE
+            ? DUE_DATE_PREFIX + afterId + ":" + afterDueDate
+            : ID_PREFIX + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (raw.startsWith(ID_PREFIX)) {
+                return new TaskCursor(Long.parseLong(raw.substring(ID_PREFIX.length())));
+            }
+            if (raw.startsWith(DUE_DATE_PREFIX)) {
+                String[] parts = raw.substring(DUE_DATE_PREFIX.length()).split(":", 2);
+                if (parts.length == 2) {
+                    return new TaskCursor(TaskSort.DUE_DATE, Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]));
+                }
+            }
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.time.LocalDateTime;
+
+import uk.gov.hmcts.reform.dev.models.TaskEventType;
+
+/**
+ * A change to one task as published to downstream systems. {@code id} is the outbox row id, unique per
+ * event, so consumers can use it to discard redeliveries; {@code task} is the task as it was after the
+ * change, or just before it for {@code DELETED}.
+ */
+public record TaskEvent(Long id, TaskEventType type, Long taskId, TaskResponse task, LocalDateTime occurredAt) {
+}
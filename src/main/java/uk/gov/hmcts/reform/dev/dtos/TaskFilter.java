@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.time.LocalDateTime;
+
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Optional restrictions on the task list; a null component matches every task. The due date range is
+ * half-open: {@code dueFrom} is inclusive and {@code dueTo} exclusive.
+ */
+public record TaskFilter(Status status, LocalDateTime dueFrom, LocalDateTime dueTo) {
+
+    public static final TaskFilter NONE = new TaskFilter(null, null, null);
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.time.LocalDateTime;
+
+public record TaskListVersion(
+    Long count,
+    Long maxId,
+    LocalDateTime lastUpdatedAt
+) {
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.util.List;
+
+public record TaskPage(
+    List<TaskResponse> items,
+    String next
+) {
+}
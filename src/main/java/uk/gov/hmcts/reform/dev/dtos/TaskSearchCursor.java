@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+
+/**
+ * Opaque keyset position for search results, which are ordered by rank descending and then id. The rank is
+ * kept as the exact {@code real} Postgres returned, so the next page starts precisely after the last row.
+ */
+public record TaskSearchCursor(float afterRank, long afterId) {
+
+    private static final String PREFIX = "s:";
+
+    public static TaskSearchCursor after(TaskSearchHit last) {
+        return new TaskSearchCursor(last.rank(), last.task().id());
+    }
+
+    public String encode() {
+        String raw = PREFIX + afterRank + ":" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.startsWith(PREFIX) ? raw.substring(PREFIX.length()).split(":", 2) : new String[0];
+            if (parts.length != 2) {
+                throw new InvalidRequestException("Invalid cursor: " + token);
+            }
+            return new TaskSearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+}
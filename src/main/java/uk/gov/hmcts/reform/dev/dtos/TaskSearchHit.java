@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+/**
+ * A search result with the {@code ts_rank} it was ordered by, which the next page's cursor starts from.
+ */
+public record TaskSearchHit(TaskResponse task, float rank) {
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+/**
+ * Orderings offered by the task list. Both are ascending and end with the id, so every page boundary
+ * is a unique keyset position.
+ */
+public enum TaskSort {
+    ID,
+    DUE_DATE
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.time.Instant;
+import java.util.Map;
+
+import uk.gov.hmcts.reform.dev.models.Status;
+
+public record TaskStats(
+    Map<Status, Long> counts,
+    long total,
+    Instant reconciledAt
+) {
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import java.time.LocalDateTime;
+
+public record TaskVersion(
+    Long id,
+    LocalDateTime updatedAt
+) {
+}
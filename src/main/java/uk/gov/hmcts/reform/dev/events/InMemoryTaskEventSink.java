@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+
+/**
+ * Keeps every published event in memory, for tests ({@code app.outbox.sink=memory}).
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+public class InMemoryTaskEventSink implements TaskEventSink {
+
+    private final List<TaskEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<TaskEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public synchronized List<TaskEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
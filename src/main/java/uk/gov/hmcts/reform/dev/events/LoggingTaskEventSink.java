@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+
+/**
+ * Default sink until a broker is wired in: writes one log line per event.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingTaskEventSink implements TaskEventSink {
+
+    @Override
+    public void publish(List<TaskEvent> events) {
+        events.forEach(event -> log.info("Task event {} {} for task {}", event.id(), event.type(), event.taskId()));
+    }
+}
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+import uk.gov.hmcts.reform.dev.repository.OutboxRepository;
+
+/**
+ * Drains {@code task_outbox} into the configured {@link TaskEventSink}. Each batch is claimed, published
+ * and deleted in one transaction; rows locked by a relay in another instance are skipped, so instances
+ * share the backlog without publishing the same event twice. A failed publish rolls the batch back into
+ * the outbox, and its events are then relayed one at a time until one fails, so every event ahead of the
+ * one at fault still goes out. That event's attempt count is raised; after {@code max-attempts} failures
+ * it is left in the outbox as a dead letter and no longer claimed, so it can't block the events behind it.
+ * While the sink itself is down, each poll counts one failure against the oldest event.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final TaskEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter published;
+    private final Counter deadLettered;
+
+    public OutboxRelay(OutboxRepository outboxRepository, TaskEventSink sink, TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper, @Value("${app.outbox.relay.batch-size}") int batchSize,
+                       @Value("${app.outbox.relay.max-attempts}") int maxAttempts, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.published = Counter.builder("task.outbox.published")
+            .description("Task events published from the outbox")
+            .register(meterRegistry);
+        this.deadLettered = Counter.builder("task.outbox.dead.lettered")
+            .description("Task events left in the outbox after failing every publish attempt")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval}")
+    public void poll() {
+        try {
+            int count;
+            do {
+                count = relayBatch();
+            } while (count == batchSize);
+        } catch (RuntimeException exception) {
+            log.warn("Outbox relay failed, the event stays in the outbox for the next poll", exception);
+        }
+    }
+
+    /**
+     * Publishes and removes one batch of at most {@code batch-size} events, returning how many there were.
+     * If the batch fails, relays its events singly and rethrows the failure of the first one that fails.
+     */
+    public int relayBatch() {
+        try {
+            return relay(batchSize, new ArrayList<>());
+        } catch (RuntimeException batchFailure) {
+            log.debug("Outbox batch failed, relaying its events one at a time", batchFailure);
+            int count = 0;
+            while (count < batchSize) {
+                List<Long> claimed = new ArrayList<>(1);
+                try {
+                    if (relay(1, claimed) == 0) {
+                        break;
+                    }
+                    count++;
+                } catch (RuntimeException exception) {
+                    if (!claimed.isEmpty()) {
+                        recordFailedAttempt(claimed.getFirst());
+                    }
+                    throw exception;
+                }
+            }
+            return count;
+        }
+    }
+
+    private int relay(int limit, List<Long> claimed) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.claimBatch(limit, maxAttempts);
+            batch.forEach(event -> claimed.add(event.getId()));
+            List<TaskEvent> events = batch.stream()
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .map(this::toTaskEvent)
+                .toList();
+            if (!events.isEmpty()) {
+                try {
+                    sink.publish(events);
+                } catch (Exception exception) {
+                    throw new IllegalStateException("Publishing " + events.size() + " task events failed", exception);
+                }
+            }
+            return events.size();
+        });
+        published.increment(count);
+        return count;
+    }
+
+    private void recordFailedAttempt(long id) {
+        Integer attempts = transactionTemplate.execute(status -> outboxRepository.recordFailedAttempt(id));
+        if (attempts != null && attempts >= maxAttempts) {
+            deadLettered.increment();
+            log.error("Outbox event {} failed {} times and is no longer relayed", id, attempts);
+        }
+    }
+
+    private TaskEvent toTaskEvent(OutboxEvent event) {
+        try {
+            return new TaskEvent(event.getId(), event.getEventType(), event.getTaskId(),
+                                 objectMapper.readValue(event.getPayload(), TaskResponse.class), event.getCreatedAt());
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unreadable payload in outbox event " + event.getId(), exception);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Flags open tasks past their due date as overdue, replacing client-side scans of the whole table. Each
+ * chunk is one set-based UPDATE in its own transaction. The {@code task_outbox_capture} trigger turns
+ * every flagged row into an {@code OVERDUE} event, so notification happens through the outbox relay and
+ * the SSE feed.
+ *
+ * <p>Every instance runs the sweep. Chunks are claimed with {@code FOR UPDATE SKIP LOCKED}, so replicas
+ * split the backlog between them instead of flagging the same rows twice. Like {@link OutboxRelay} it sits
+ * outside {@code services}, so a sweep neither holds a {@code DatabaseBulkhead} permit for its whole run
+ * nor shows up in the {@code task.service} request latency.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.overdue.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueTaskSweeper {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Counter flagged;
+    private final Timer chunkTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public OverdueTaskSweeper(TaskRepository taskRepository, TransactionTemplate transactionTemplate,
+                              @Value("${app.overdue.chunk-size}") int chunkSize, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.flagged = Counter.builder("task.overdue.flagged")
+            .description("Tasks flagged as overdue by this instance")
+            .register(meterRegistry);
+        this.chunkTimer = Timer.builder("task.overdue.chunk")
+            .description("Time to flag one chunk of overdue tasks")
+            .register(meterRegistry);
+        Gauge.builder("task.overdue.backlog", backlog, AtomicLong::get)
+            .description("Overdue tasks still unflagged at the end of the last sweep")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.overdue.interval}", fixedDelayString = "${app.overdue.interval}")
+    public void poll() {
+        try {
+            sweep();
+        } catch (RuntimeException exception) {
+            log.warn("Overdue sweep failed, it will be retried on the next run", exception);
+        }
+    }
+
+    /**
+     * Flags chunks until one comes back short, then records what is left, returning how many tasks this
+     * call flagged. Tasks are overdue as of the start of the sweep.
+     */
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        List<Long> chunk;
+        do {
+            chunk = chunkTimer.record(() -> transactionTemplate.execute(
+                status -> taskRepository.flagOverdue(chunkSize, now)));
+            flagged.increment(chunk.size());
+            total += chunk.size();
+        } while (chunk.size() == chunkSize);
+        backlog.set(taskRepository.countUnflaggedOverdue(now));
+        if (total > 0) {
+            log.info("Flagged {} overdue tasks", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+
+/**
+ * Listens on the {@code task_events} channel fed by the {@code task_outbox_notify} trigger and hands each
+ * committed event to {@link TaskEventStream}, so SSE subscribers on every instance see every change.
+ *
+ * <p>The listener holds one dedicated connection outside the Hikari pool, because a LISTEN session is
+ * never idle. Notifications sent while it is reconnecting are lost to the live stream; they remain in the
+ * outbox for the relay.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.events.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskChangeListener implements SmartLifecycle {
+
+    static final String CHANNEL = "task_events";
+    private static final int POLL_MILLIS = 5_000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final TaskEventStream taskEventStream;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread thread;
+
+    public TaskChangeListener(DataSourceProperties dataSourceProperties, ObjectMapper objectMapper,
+                              TaskEventStream taskEventStream) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.taskEventStream = taskEventStream;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("task-change-listener").start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException exception) {
+                listening = false;
+                if (running) {
+                    log.warn("Task change listener lost its connection, reconnecting in {}", RECONNECT_DELAY,
+                             exception);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            taskEventStream.publish(objectMapper.readValue(payload, TaskEvent.class));
+        } catch (JsonProcessingException exception) {
+            log.warn("Ignoring unreadable task event notification", exception);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+
+/**
+ * Destination for task events drained from the outbox. {@link #publish} is called with events in
+ * outbox order and must either deliver the whole batch or throw; a thrown exception returns the batch to
+ * the outbox for another attempt, so delivery is at least once.
+ */
+public interface TaskEventSink {
+
+    void publish(List<TaskEvent> events) throws Exception;
+}
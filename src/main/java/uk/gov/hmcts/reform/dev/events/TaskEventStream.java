@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+
+/**
+ * Fans task events out to Server-Sent Events subscribers and keeps the last {@code app.events.replay-size}
+ * of them for reconnecting clients.
+ *
+ * <p>An idle subscriber costs an async request and one parked virtual thread. Each subscriber has its own
+ * queue and sender thread, so a slow client delays only itself; a client whose queue overflows is
+ * disconnected and can resume with {@code Last-Event-ID}. Replay follows the order in which this instance
+ * received events. If the given id is no longer buffered, every buffered event with a larger id is
+ * replayed instead.
+ */
+@Slf4j
+@Component
+public class TaskEventStream {
+
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = 256;
+
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final Duration emitterTimeout;
+    private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public TaskEventStream(ObjectMapper objectMapper,
+                           @Value("${app.events.replay-size}") int replaySize,
+                           @Value("${app.events.emitter-timeout}") Duration emitterTimeout,
+                           MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.replaySize = replaySize;
+        this.emitterTimeout = emitterTimeout;
+        Gauge.builder("task.events.subscribers", subscribers, Set::size)
+            .description("Open task event streams")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber;
+        synchronized (this) {
+            List<Frame> replay = lastEventId == null ? List.of() : replayAfter(lastEventId);
+            subscriber = new Subscriber(emitter, replay.size() + SUBSCRIBER_QUEUE_CAPACITY);
+            replay.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    public void publish(TaskEvent event) {
+        Frame frame;
+        try {
+            frame = new Frame(event.id(), event.type().name(), objectMapper.writeValueAsString(event.task()));
+        } catch (JsonProcessingException exception) {
+            log.warn("Dropping task event {} that could not be serialised", event.id(), exception);
+            return;
+        }
+        synchronized (this) {
+            recent.addLast(frame);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(frame));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.events.heartbeat-interval}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(Frame.HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private List<Frame> replayAfter(String lastEventId) {
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException exception) {
+            return List.of();
+        }
+        List<Frame> replay = new ArrayList<>();
+        boolean found = false;
+        for (Iterator<Frame> frames = recent.iterator(); frames.hasNext(); ) {
+            Frame frame = frames.next();
+            if (found) {
+                replay.add(frame);
+            } else if (frame.id() == lastId) {
+                found = true;
+            }
+        }
+        return found ? replay : recent.stream().filter(frame -> frame.id() > lastId).toList();
+    }
+
+    private record Frame(long id, String name, String data) {
+
+        static final Frame HEARTBEAT = new Frame(-1, null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return this == HEARTBEAT
+                ? SseEmitter.event().comment("heartbeat")
+                : SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+        private volatile Thread sender;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("task-events-subscriber").start(this::send);
+        }
+
+        void offer(Frame frame) {
+            if (!queue.offer(frame) && frame != Frame.HEARTBEAT) {
+                log.debug("Task event subscriber fell behind, closing its stream");
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void send() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    emitter.send(queue.take().toEvent());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException exception) {
+                // client went away; the emitter's completion callback removes the subscriber
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(Duration waited) {
+        super("Database is busy, no capacity became available within " + waited.toMillis() + " ms");
+    }
+}
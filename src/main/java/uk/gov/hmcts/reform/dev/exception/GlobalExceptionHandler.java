@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.dev.exception;
 import java.time.Instant;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -34,6 +35,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> invalidRequestException(InvalidRequestException exception) {
+        var body = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage(), List.of(), Instant.now());
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> bulkheadFullException(BulkheadFullException exception) {
+        var body = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage(), List.of(), Instant.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> idempotencyKeyInProgress(IdempotencyKeyInProgressException exception) {
+        var body = new ErrorResponse(HttpStatus.CONFLICT.value(), exception.getMessage(), List.of(), Instant.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ResponseEntity<ErrorResponse> idempotencyKeyReused(IdempotencyKeyReusedException exception) {
+        var body = new ErrorResponse(
+            HttpStatus.UNPROCESSABLE_ENTITY.value(), exception.getMessage(), List.of(), Instant.now());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(body);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> invalidRequestBody(HttpMessageNotReadableException exception) {
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(Duration waited) {
+        super("A request with this Idempotency-Key is still in progress after " + waited.toMillis() + " ms");
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.IdempotencyKeyInProgressException;
+import uk.gov.hmcts.reform.dev.exception.IdempotencyKeyReusedException;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+
+/**
+ * Runs a keyed request at most once and replays its response to retries with the same Idempotency-Key.
+ *
+ * <p>Responses are kept in a bounded in-memory cache that expires after {@code app.idempotency.ttl}. The
+ * cache holds each key's future from the moment its first request starts, so a concurrent duplicate
+ * waits for that execution instead of racing it. With {@code app.idempotency.store=jdbc}, keys are also
+ * reserved in {@link JdbcIdempotencyStore}, and a duplicate arriving at another instance polls the table
+ * for the response. Replays never reach {@code TaskService}.
+ *
+ * <p>This sits outside the services package so that waiting duplicates do not hold database bulkhead
+ * permits while the first execution needs one.
+ */
+@Component
+public class IdempotentRequests {
+
+    public static final int MAX_KEY_LENGTH = 255;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final ObjectMapper objectMapper;
+    private final JdbcIdempotencyStore sharedStore;
+    private final Duration waitTimeout;
+    private final Cache<String, CompletableFuture<IdempotentResponse>> responses;
+    private final Counter replays;
+
+    public IdempotentRequests(ObjectMapper objectMapper,
+                              ObjectProvider<JdbcIdempotencyStore> sharedStore,
+                              @Value("${app.idempotency.max-keys}") long maxKeys,
+                              @Value("${app.idempotency.ttl}") Duration ttl,
+                              @Value("${app.idempotency.wait-timeout}") Duration waitTimeout,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.sharedStore = sharedStore.getIfAvailable();
+        this.waitTimeout = waitTimeout;
+        this.responses = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterWrite(ttl).build();
+        this.replays = Counter.builder("task.idempotency.replays")
+            .description("Requests answered with the stored response of an earlier request with the same key")
+            .register(meterRegistry);
+    }
+
+    public TaskResponse execute(String key, TaskRequest request, Supplier<TaskResponse> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+        CompletableFuture<IdempotentResponse> pending = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> first = responses.asMap().putIfAbsent(key, pending);
+        if (first != null) {
+            replays.increment();
+            return responseFor(await(first), requestHash);
+        }
+        try {
+            IdempotentResponse result = sharedStore == null
+                ? new IdempotentResponse(requestHash, action.get())
+                : executeShared(key, requestHash, action);
+            pending.complete(result);
+            return responseFor(result, requestHash);
+        } catch (RuntimeException exception) {
+            // let a later retry run again rather than replaying a failure
+            responses.asMap().remove(key, pending);
+            pending.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    private IdempotentResponse executeShared(String key, String requestHash, Supplier<TaskResponse> action) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            if (sharedStore.reserve(key, requestHash)) {
+                try {
+                    IdempotentResponse result = new IdempotentResponse(requestHash, action.get());
+                    sharedStore.complete(key, result);
+                    return result;
+                } catch (RuntimeException exception) {
+                    sharedStore.release(key);
+                    throw exception;
+                }
+            }
+            Optional<IdempotentResponse> completed = sharedStore.findCompleted(key);
+            if (completed.isPresent()) {
+                replays.increment();
+                return completed.get();
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new IdempotencyKeyInProgressException(waitTimeout);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyKeyInProgressException(waitTimeout);
+            }
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> first) {
+        try {
+            return first.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (TimeoutException exception) {
+            throw new IdempotencyKeyInProgressException(waitTimeout);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(waitTimeout);
+        }
+    }
+
+    private static TaskResponse responseFor(IdempotentResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        return stored.response();
+    }
+
+    private String hash(TaskRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Could not hash request body", exception);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.idempotency;
+
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+
+/**
+ * The outcome of the first request made with an Idempotency-Key, with a hash of its body so a reuse of
+ * the key for a different request can be told apart from a retry.
+ */
+public record IdempotentResponse(String requestHash, TaskResponse response) {
+}
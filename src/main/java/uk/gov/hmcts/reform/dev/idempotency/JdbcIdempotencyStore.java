@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.dev.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+
+/**
+ * Shares Idempotency-Keys between instances through the {@code idempotency_key} table. Every write is a
+ * single statement in its own transaction (the pool hands out connections with auto-commit off), so no
+ * connection is held while the keyed request itself runs.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration reservationTimeout;
+
+    public JdbcIdempotencyStore(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                @Value("${app.idempotency.ttl}") Duration ttl,
+                                @Value("${app.idempotency.reservation-timeout}") Duration reservationTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.reservationTimeout = reservationTimeout;
+    }
+
+    /**
+     * Claims {@code key} for the caller, which must then {@link #complete} or {@link #release} it. Returns
+     * false when another request holds or has completed the key. A reservation left for longer than
+     * {@code app.idempotency.reservation-timeout} by an instance that died is taken over.
+     */
+    @Transactional
+    public boolean reserve(String key, String requestHash) {
+        List<String> claimed = jdbcTemplate.queryForList("""
+            insert into idempotency_key (idempotency_key, request_hash)
+            values (:key, :requestHash)
+            on conflict (idempotency_key) do update
+                set request_hash = excluded.request_hash, created_at = localtimestamp
+                where idempotency_key.response is null
+                  and idempotency_key.created_at < localtimestamp - make_interval(secs => :reservationSeconds)
+            returning idempotency_key""",
+            new MapSqlParameterSource("key", key)
+                .addValue("requestHash", requestHash)
+                .addValue("reservationSeconds", (double) reservationTimeout.toSeconds()),
+            String.class);
+        return !claimed.isEmpty();
+    }
+
+    public Optional<IdempotentResponse> findCompleted(String key) {
+        return jdbcTemplate.query(
+            "select request_hash, response from idempotency_key where idempotency_key = :key and response is not null",
+            new MapSqlParameterSource("key", key),
+            (rs, rowNum) -> new IdempotentResponse(rs.getString("request_hash"), read(rs.getString("response"))))
+            .stream().findFirst();
+    }
+
+    @Transactional
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(
+            "update idempotency_key set response = cast(:response as jsonb) where idempotency_key = :key",
+            new MapSqlParameterSource("key", key).addValue("response", write(response.response())));
+    }
+
+    @Transactional
+    public void release(String key) {
+        jdbcTemplate.update("delete from idempotency_key where idempotency_key = :key and response is null",
+                            new MapSqlParameterSource("key", key));
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(
+            "delete from idempotency_key where created_at < localtimestamp - make_interval(secs => :ttlSeconds)",
+            new MapSqlParameterSource("ttlSeconds", (double) ttl.toSeconds()));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private String write(TaskResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialise idempotent response", exception);
+        }
+    }
+
+    private TaskResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, TaskResponse.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not read stored idempotent response", exception);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package uk.gov.hmcts.reform.dev.mapper;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusUpdate;
 
 @Component
 public class TaskMapper {
@@ -13,10 +17,16 @@ public class TaskMapper {
             .title(taskRequest.title())
             .description(taskRequest.description())
             .status(taskRequest.status())
-            .dueDate(taskRequest.dueDate())
+            .dueDate(toColumnPrecision(taskRequest.dueDate()))
             .build();
     }
 
+    // the timestamp(6) column keeps microseconds; dropping the rest up front makes the response built
+    // from the saved entity, which createTask caches, match the row as it is read back
+    private static LocalDateTime toColumnPrecision(LocalDateTime timestamp) {
+        return timestamp == null ? null : timestamp.truncatedTo(ChronoUnit.MICROS);
+    }
+
     public TaskResponse toDto(Task currentTask) {
         return new TaskResponse(
             currentTask.getId(),
@@ -27,4 +37,15 @@ public class TaskMapper {
             currentTask.getCreatedAt(),
             currentTask.getUpdatedAt());
     }
+
+    public TaskResponse toDto(TaskStatusUpdate updatedTask) {
+        return new TaskResponse(
+            updatedTask.getId(),
+            updatedTask.getTitle(),
+            updatedTask.getDescription(),
+            updatedTask.getStatus(),
+            updatedTask.getDueDate(),
+            updatedTask.getCreatedAt(),
+            updatedTask.getUpdatedAt());
+    }
 }
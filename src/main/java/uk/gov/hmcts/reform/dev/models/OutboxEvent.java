@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * A row of {@code task_outbox}. Rows are written only by the {@code task_outbox_capture} trigger, so
+ * the entity is read-only; the relay's {@code attempts} count is kept by native updates and not mapped.
+ */
+@Entity
+@Immutable
+@Table(name = "task_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    @Column
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private TaskEventType eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column
+    private String payload;
+
+    @Column
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.models;
+
+public enum TaskEventType {
+    CREATED,
+    STATUS_CHANGED,
+    UPDATED,
+    OVERDUE,
+    DELETED
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Removes and returns the oldest {@code limit} events not already claimed by another relay and not yet
+     * failed {@code maxAttempts} times. The rows stay locked until the surrounding transaction ends, so
+     * rolling back puts them back for a retry.
+     */
+    @Query(value = """
+        delete from task_outbox
+        where id in (
+            select id from task_outbox
+            where attempts < :maxAttempts
+            order by id
+            limit :limit
+            for update skip locked)
+        returning *""", nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Counts one more failed attempt to publish the event and returns how many there have been.
+     */
+    @Query(value = "update task_outbox set attempts = attempts + 1 where id = :id returning attempts",
+        nativeQuery = true)
+    int recordFailedAttempt(@Param("id") long id);
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.dtos.TaskCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+
+public interface TaskQueryRepository {
+
+    /**
+     * Returns up to {@code limit} tasks matching {@code filter} in {@code sort} order, starting after
+     * {@code after} or from the beginning when it is null.
+     */
+    List<TaskResponse> findResponses(TaskFilter filter, TaskSort sort, TaskCursor after, int limit);
+
+    /**
+     * Returns up to {@code limit} tasks whose title or description matches the web-search style
+     * {@code query}, best match first, starting after {@code after} or from the top when it is null.
+     */
+    List<TaskSearchHit> search(String query, TaskSearchCursor after, int limit);
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.dev.dtos.TaskCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * Builds the list query from only the restrictions actually requested, so each combination reaches the
+ * database as a plain predicate the planner can match to one of the composite indexes in
+ * {@code V2__task_list_indexes.sql}, rather than as a catch-all {@code (:p is null or ...)} statement.
+ *
+ * <p>Search is plain SQL, as JPQL has no full-text operators. The GIN index on {@code search_vector}
+ * finds the matching rows without reading the rest of the table, so its cost grows with the number of
+ * matches rather than the table size; only the matches are ranked.
+ */
+@RequiredArgsConstructor
+class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    private static final String SEARCH = """
+        select t.id, t.title, t.description, t.status, t.due_date, t.created_at, t.updated_at, r.rank
+        from task t
+        cross join websearch_to_tsquery('english', :query) q
+        cross join lateral (select ts_rank(t.search_vector, q) as rank) r
+        where t.search_vector @@ q
+        """;
+    private static final String SEARCH_AFTER =
+        " and (r.rank < cast(:afterRank as real) or (r.rank = cast(:afterRank as real) and t.id > :afterId))";
+    private static final String SEARCH_ORDER = " order by r.rank desc, t.id limit :limit";
+
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskResponse> findResponses(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+        Path<LocalDateTime> dueDate = task.get("dueDate");
+
+        query.select(cb.construct(
+            TaskResponse.class,
+            id, task.get("title"), task.get("description"), task.get("status"),
+            dueDate, task.get("createdAt"), task.get("updatedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.status()));
+        }
+        if (filter.dueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            predicates.add(cb.lessThan(dueDate, filter.dueTo()));
+        }
+        if (after != null && sort == TaskSort.DUE_DATE) {
+            // (due_date, id) > (:dueDate, :id); the leading >= bound gives the index scan its start key
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, after.afterDueDate()));
+            predicates.add(cb.or(
+                cb.greaterThan(dueDate, after.afterDueDate()),
+                cb.greaterThan(id, after.afterId())));
+        } else if (after != null) {
+            predicates.add(cb.greaterThan(id, after.afterId()));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        if (sort == TaskSort.DUE_DATE) {
+            query.orderBy(cb.asc(dueDate), cb.asc(id));
+        } else {
+            query.orderBy(cb.asc(id));
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String query, TaskSearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("limit", limit);
+        String sql = SEARCH;
+        if (after != null) {
+            sql += SEARCH_AFTER;
+            params.addValue("afterRank", after.afterRank()).addValue("afterId", after.afterId());
+        }
+        return jdbcTemplate.query(sql + SEARCH_ORDER, params, (rs, rowNum) -> toSearchHit(rs));
+    }
+
+    private static TaskSearchHit toSearchHit(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        TaskResponse task = new TaskResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            status == null ? null : Status.valueOf(status),
+            rs.getObject("due_date", LocalDateTime.class),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+        return new TaskSearchHit(task, rs.getFloat("rank"));
+    }
+}
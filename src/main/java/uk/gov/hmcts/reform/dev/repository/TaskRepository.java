@@ -1,8 +1,144 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.dtos.StatusCount;
+import uk.gov.hmcts.reform.dev.dtos.TaskListVersion;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
 import uk.gov.hmcts.reform.dev.models.Task;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {}
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
+
+    /**
+     * Constructor projection used by every read path: rows become {@link TaskResponse} records directly,
+     * so no managed entity, dirty-checking snapshot or mapper copy is created.
+     */
+    String SELECT_TASK_RESPONSE = """
+        select new uk.gov.hmcts.reform.dev.dtos.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt)
+        from Task t""";
+
+    @Query(SELECT_TASK_RESPONSE + " where t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_TASK_RESPONSE + " order by t.id")
+    List<TaskResponse> findAllResponses();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_TASK_RESPONSE + " order by t.id")
+    Stream<TaskResponse> streamAllResponses();
+
+    @Query("select new uk.gov.hmcts.reform.dev.dtos.TaskVersion(t.id, t.updatedAt) from Task t where t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select new uk.gov.hmcts.reform.dev.dtos.TaskListVersion(count(t), max(t.id), max(t.updatedAt)) from Task t")
+    TaskListVersion findListVersion();
+
+    @Query("select new uk.gov.hmcts.reform.dev.dtos.StatusCount(t.status, count(t)) from Task t group by t.status")
+    List<StatusCount> countByStatus();
+
+    /**
+     * Moves one task to {@code status} in a single statement and returns the updated row along with the
+     * status it had before, which the locked {@code previous} row still holds.
+     *
+     * <p>Native updates bypass JPA auditing, so this and the bulk updates below take {@code updatedAt}
+     * from the caller's {@code LocalDateTime.now()}, the clock auditing uses for every other write,
+     * rather than the database's, which may differ in time zone or drift.
+     */
+    @Query(value = """
+        with previous as (
+            select id, status from task
+            where id = :id
+            for update)
+        update task set status = :status, updated_at = :updatedAt
+        from previous
+        where task.id = previous.id
+        returning task.id as "id", task.title as "title", task.description as "description",
+            task.status as "status", task.due_date as "dueDate", task.created_at as "createdAt",
+            task.updated_at as "updatedAt", previous.status as "previousStatus\"""", nativeQuery = true)
+    Optional<TaskStatusUpdate> updateStatusById(@Param("id") Long id, @Param("status") String status,
+                                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Deletes the task and returns the status it had, or nothing when there was no such task.
+     */
+    @Query(value = """
+        delete from task
+        where id = :id
+        returning id as "id", status as "previousStatus\"""", nativeQuery = true)
+    Optional<TaskStatusChange> deleteTaskById(@Param("id") Long id);
+
+    @Query(value = """
+        with previous as (
+            select id, status from task
+            where id in (:ids) and status is distinct from :status
+            for update)
+        update task set status = :status, updated_at = :updatedAt
+        from previous
+        where task.id = previous.id
+        returning task.id as "id", previous.status as "previousStatus\"""", nativeQuery = true)
+    List<TaskStatusChange> updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status,
+                                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Moves up to {@code chunkSize} matching tasks to {@code status} in one statement. Rows locked by
+     * concurrent writers are skipped rather than waited on; a null filter argument matches everything.
+     */
+    @Query(value = """
+        with previous as (
+            select id, status from task
+            where (cast(:currentStatus as varchar) is null or status = cast(:currentStatus as varchar))
+              and (cast(:dueBefore as timestamp) is null or due_date < cast(:dueBefore as timestamp))
+              and status is distinct from :status
+            order by id
+            limit :chunkSize
+            for update skip locked)
+        update task set status = :status, updated_at = :updatedAt
+        from previous
+        where task.id = previous.id
+        returning task.id as "id", previous.status as "previousStatus\"""", nativeQuery = true)
+    List<TaskStatusChange> updateStatusMatching(@Param("currentStatus") String currentStatus,
+                                    @Param("dueBefore") LocalDateTime dueBefore,
+                                    @Param("status") String status,
+                                    @Param("chunkSize") int chunkSize,
+                                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Flags up to {@code chunkSize} open tasks whose due date has passed as overdue, oldest first, and
+     * returns their ids. Rows locked by another sweeper or writer are skipped, so concurrent instances
+     * take disjoint chunks. {@code now} comes from the JVM clock, which wrote {@code due_date}; the
+     * database clock may differ in time zone or drift.
+     */
+    @Query(value = """
+        with overdue as (
+            select id from task
+            where overdue_at is null and status is distinct from 'COMPLETED' and due_date < :now
+            order by due_date, id
+            limit :chunkSize
+            for update skip locked)
+        update task set overdue_at = :now
+        from overdue
+        where task.id = overdue.id
+        returning task.id""", nativeQuery = true)
+    List<Long> flagOverdue(@Param("chunkSize") int chunkSize, @Param("now") LocalDateTime now);
+
+    @Query(value = """
+        select count(*) from task
+        where overdue_at is null and status is distinct from 'COMPLETED'
+          and due_date < :now""", nativeQuery = true)
+    long countUnflaggedOverdue(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+/**
+ * A task touched by a status update or delete: its id and the status it had before the statement ran.
+ */
+public interface TaskStatusChange {
+
+    Long getId();
+
+    String getPreviousStatus();
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * A task as it is after a single status update, together with the status it had before.
+ */
+public interface TaskStatusUpdate extends TaskStatusChange {
+
+    String getTitle();
+
+    String getDescription();
+
+    Status getStatus();
+
+    LocalDateTime getDueDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import uk.gov.hmcts.reform.dev.dtos.ExportFormat;
+
+public interface TaskExportService {
+
+    void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dtos.ExportFormat;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    static final String CSV_HEADER = "id,title,description,status,dueDate,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public TaskExportServiceImpl(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every task to the stream as it is read from the database cursor. Rows are unmanaged
+     * projections, so nothing accumulates in the persistence context while the export runs.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<TaskResponse> tasks = taskRepository.streamAllResponses()) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(tasks.iterator(), writer);
+            } else {
+                writeNdjson(tasks.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TaskResponse> tasks, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (tasks.hasNext()) {
+            rowWriter.writeValue(generator, tasks.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<TaskResponse> tasks, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (tasks.hasNext()) {
+            TaskResponse row = tasks.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(csvField(row.title()));
+            writer.write(',');
+            writer.write(csvField(row.description()));
+            writer.write(',');
+            writer.write(csvField(row.status()));
+            writer.write(',');
+            writer.write(csvField(row.dueDate()));
+            writer.write(',');
+            writer.write(csvField(row.createdAt()));
+            writer.write(',');
+            writer.write(csvField(row.updatedAt()));
+            writer.write('\n');
+        }
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -2,19 +2,39 @@ package uk.gov.hmcts.reform.dev.services;
 
 import java.util.List;
 
+import uk.gov.hmcts.reform.dev.dtos.BatchCreateResponse;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskListVersion;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
 import uk.gov.hmcts.reform.dev.models.Status;
 
 public interface TaskService {
 
     TaskResponse createTask(TaskRequest taskRequest);
 
+    BatchCreateResponse createTasks(List<TaskRequest> taskRequests);
+
     TaskResponse getTaskById(Long id);
 
+    TaskVersion getTaskVersion(Long id);
+
+    TaskListVersion getTaskListVersion();
+
     List<TaskResponse> getAllTasks();
 
+    TaskPage getTasks(TaskFilter filter, TaskSort sort, String cursor, int limit);
+
+    TaskPage searchTasks(String query, String cursor, int limit);
+
     TaskResponse updateTaskStatusById(Long id, Status status);
 
+    BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request);
+
     void deleteTask(Long id);
 }
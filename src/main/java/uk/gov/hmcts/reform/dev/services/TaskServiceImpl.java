@@ -1,59 +1,271 @@
 package uk.gov.hmcts.reform.dev.services;
 
+import jakarta.validation.Validator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.dtos.BatchCreateResponse;
+import uk.gov.hmcts.reform.dev.dtos.BatchItemResult;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskListVersion;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
 import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
 import uk.gov.hmcts.reform.dev.models.Status;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusChange;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
 
+/**
+ * Every insert, update and delete of a task row also writes a {@code task_outbox} event in the same
+ * transaction, through the {@code task_outbox_capture} trigger (see {@code V3__task_outbox.sql}), and
+ * reports the status it adds or removes to {@link TaskStatusCounters}.
+ */
 @Service
 public class TaskServiceImpl implements TaskService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int BULK_CHUNK_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStatusCounters taskStatusCounters;
 
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, Validator validator,
+                           TransactionTemplate transactionTemplate, TaskStatusCounters taskStatusCounters) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.taskStatusCounters = taskStatusCounters;
     }
 
     @Override
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id()")
     public TaskResponse createTask(TaskRequest taskRequest) {
         if (taskRequest == null) {
             throw new NullPointerException("Task request is null valued");
         }
-        return taskMapper.toDto(taskRepository.save(taskMapper.toEntity(taskRequest)));
+        Task saved = taskRepository.save(taskMapper.toEntity(taskRequest));
+        taskStatusCounters.recordCreated(saved.getStatus());
+        return taskMapper.toDto(saved);
     }
 
+    /**
+     * Validates every request up front and persists the valid ones in a single transaction. Ids come
+     * from the pooled {@code task_seq} sequence, so Hibernate can group the inserts into JDBC batches
+     * of {@code hibernate.jdbc.batch_size} rows.
+     */
     @Override
+    @Transactional
+    public BatchCreateResponse createTasks(List<TaskRequest> taskRequests) {
+        if (taskRequests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("A batch may contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[taskRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Task> toInsert = new ArrayList<>();
+        for (int index = 0; index < taskRequests.size(); index++) {
+            List<String> errors = validate(taskRequests.get(index));
+            if (errors.isEmpty()) {
+                validIndexes.add(index);
+                toInsert.add(taskMapper.toEntity(taskRequests.get(index)));
+            } else {
+                results[index] = new BatchItemResult(index, null, errors);
+            }
+        }
+
+        List<Task> saved = taskRepository.saveAll(toInsert);
+        taskStatusCounters.recordCreated(saved.stream().map(Task::getStatus).toList());
+        for (int position = 0; position < saved.size(); position++) {
+            int index = validIndexes.get(position);
+            results[index] = new BatchItemResult(index, taskMapper.toDto(saved.get(position)), List.of());
+        }
+        return new BatchCreateResponse(saved.size(), taskRequests.size() - saved.size(), List.of(results));
+    }
+
+    private List<String> validate(TaskRequest taskRequest) {
+        if (taskRequest == null) {
+            return List.of("Task request is null valued");
+        }
+        return validator.validate(taskRequest).stream()
+            .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                ? violation.getMessage()
+                : violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public TaskResponse getTaskById(Long id) {
-        return taskMapper.toDto(
-            taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id)));
+        return taskRepository.findResponseById(id).orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskVersion getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id).orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskListVersion getTaskListVersion() {
+        return taskRepository.findListVersion();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream().map(taskMapper::toDto).collect(Collectors.toList());
+        return taskRepository.findAllResponses();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTasks(TaskFilter filter, TaskSort sort, String cursor, int limit) {
+        if (filter.dueFrom() != null && filter.dueTo() != null && !filter.dueFrom().isBefore(filter.dueTo())) {
+            throw new InvalidRequestException("dueFrom must be before dueTo");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        if (after != null && after.sort() != sort) {
+            throw new InvalidRequestException("Cursor was issued for sort " + after.sort() + ", not " + sort);
+        }
+
+        // fetch one extra row so we know whether a next page exists without a COUNT query
+        List<TaskResponse> rows = taskRepository.findResponses(filter, sort, after, pageSize + 1);
+        List<TaskResponse> items = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String next = rows.size() > pageSize ? TaskCursor.after(sort, items.getLast()).encode() : null;
+        return new TaskPage(items, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage searchTasks(String query, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q must not be blank");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        TaskSearchCursor after = cursor == null || cursor.isBlank() ? null : TaskSearchCursor.decode(cursor);
+
+        List<TaskSearchHit> hits = taskRepository.search(query, after, pageSize + 1);
+        List<TaskSearchHit> page = hits.size() > pageSize ? hits.subList(0, pageSize) : hits;
+        String next = hits.size() > pageSize ? TaskSearchCursor.after(page.getLast()).encode() : null;
+        return new TaskPage(page.stream().map(TaskSearchHit::task).toList(), next);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskResponse updateTaskStatusById(Long id, Status status) {
-        Task taskToUpdate =
-            taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
-        taskToUpdate.setStatus(status);
-        return taskMapper.toDto(taskRepository.save(taskToUpdate));
+        TaskStatusUpdate updated =
+            taskRepository.updateStatusById(id, status.name(), LocalDateTime.now())
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        taskStatusCounters.recordMoved(Collections.singletonList(previousStatus(updated)), status);
+        return taskMapper.toDto(updated);
+    }
+
+    /**
+     * Applies the transition as one set-based UPDATE per chunk of {@value #BULK_CHUNK_SIZE} rows, each
+     * committed on its own so row locks are held only for the duration of a single chunk. A filter moves
+     * at most {@value #MAX_BATCH_SIZE} tasks per call, the same cap as an id list, so one request can't
+     * hold a thread and a growing id list for an unbounded number of chunks.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        boolean hasFilter = request.currentStatus() != null || request.dueBefore() != null;
+        if (request.targetStatus() == null) {
+            throw new InvalidRequestException("Target status is a mandatory field");
+        }
+        if (request.ids() != null && hasFilter) {
+            throw new InvalidRequestException("Provide either a list of ids or a filter, not both");
+        }
+        if (request.ids() == null && !hasFilter) {
+            throw new InvalidRequestException("Provide a list of ids or at least one filter criterion");
+        }
+
+        if (request.ids() != null) {
+            List<Long> updated = updateListedStatuses(request.ids(), request.targetStatus());
+            return new BulkStatusUpdateResponse(updated.size(), updated, false);
+        }
+        List<Long> updated = updateMatchingStatuses(request);
+        return new BulkStatusUpdateResponse(updated.size(), updated, updated.size() == MAX_BATCH_SIZE);
+    }
+
+    private List<Long> updateListedStatuses(List<Long> ids, Status targetStatus) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("A batch may contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<Long> updated = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            updated.addAll(transactionTemplate.execute(
+                status -> recordMoved(
+                    taskRepository.updateStatusByIdIn(chunk, targetStatus.name(), LocalDateTime.now()), targetStatus)));
+        }
+        return updated;
+    }
+
+    private List<Long> updateMatchingStatuses(BulkStatusUpdateRequest request) {
+        String currentStatus = request.currentStatus() == null ? null : request.currentStatus().name();
+        List<Long> updated = new ArrayList<>();
+        List<Long> chunk;
+        int chunkSize;
+        do {
+            chunkSize = Math.min(BULK_CHUNK_SIZE, MAX_BATCH_SIZE - updated.size());
+            int limit = chunkSize;
+            chunk = transactionTemplate.execute(status -> recordMoved(taskRepository.updateStatusMatching(
+                currentStatus, request.dueBefore(), request.targetStatus().name(), limit,
+                LocalDateTime.now()), request.targetStatus()));
+            updated.addAll(chunk);
+        } while (chunk.size() == chunkSize && updated.size() < MAX_BATCH_SIZE);
+        return updated;
+    }
+
+    private List<Long> recordMoved(List<TaskStatusChange> changes, Status targetStatus) {
+        taskStatusCounters.recordMoved(
+            changes.stream().map(TaskServiceImpl::previousStatus).toList(), targetStatus);
+        return changes.stream().map(TaskStatusChange::getId).toList();
+    }
+
+    private static Status previousStatus(TaskStatusChange change) {
+        return change.getPreviousStatus() == null ? null : Status.valueOf(change.getPreviousStatus());
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public void deleteTask(Long id) {
-        Task taskToDelete =
-            taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
-        taskRepository.delete(taskToDelete);
+        TaskStatusChange deleted = taskRepository.deleteTaskById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        taskStatusCounters.recordDeleted(previousStatus(deleted));
     }
 }
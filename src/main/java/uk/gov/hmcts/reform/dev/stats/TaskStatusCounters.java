@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.stats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.dtos.StatusCount;
+import uk.gov.hmcts.reform.dev.dtos.TaskStats;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Number of tasks in each status, kept in memory so {@code GET /api/v1/tasks/stats} never touches the
+ * table. The write paths in {@code TaskServiceImpl} report every create, status change and delete; the
+ * change is applied once its transaction commits, so rolled-back writes are never counted.
+ *
+ * <p>Each instance only sees its own writes, so the counts are periodically replaced with a
+ * {@code group by status} over the table. That pass also corrects any drift, and bounds how stale the
+ * counts on one replica can be after writes made through another. A write whose transaction commits
+ * before that query starts, but which is only added here once the query has finished, is counted twice
+ * until the next pass, so the counts are close rather than exact.
+ */
+@Slf4j
+@Component
+public class TaskStatusCounters {
+
+    static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final Map<Status, LongAdder> counts = new EnumMap<>(Status.class);
+    private final AtomicLong changes = new AtomicLong();
+    private volatile Instant reconciledAt;
+
+    public TaskStatusCounters(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        for (Status status : Status.values()) {
+            LongAdder count = new LongAdder();
+            counts.put(status, count);
+            Gauge.builder("task.status.count", count, LongAdder::sum)
+                .description("Tasks currently in each status")
+                .tag("status", status.name())
+                .register(meterRegistry);
+        }
+    }
+
+    public void recordCreated(Status status) {
+        Map<Status, Long> delta = new EnumMap<>(Status.class);
+        add(delta, status, 1);
+        record(delta);
+    }
+
+    public void recordCreated(Collection<Status> statuses) {
+        Map<Status, Long> delta = new EnumMap<>(Status.class);
+        statuses.forEach(status -> add(delta, status, 1));
+        record(delta);
+    }
+
+    public void recordMoved(Collection<Status> previousStatuses, Status targetStatus) {
+        Map<Status, Long> delta = new EnumMap<>(Status.class);
+        previousStatuses.forEach(status -> {
+            add(delta, status, -1);
+            add(delta, targetStatus, 1);
+        });
+        record(delta);
+    }
+
+    public void recordDeleted(Status status) {
+        Map<Status, Long> delta = new EnumMap<>(Status.class);
+        add(delta, status, -1);
+        record(delta);
+    }
+
+    public TaskStats snapshot() {
+        Map<Status, Long> snapshot = new EnumMap<>(Status.class);
+        long total = 0;
+        for (Map.Entry<Status, LongAdder> entry : counts.entrySet()) {
+            long count = entry.getValue().sum();
+            snapshot.put(entry.getKey(), count);
+            total += count;
+        }
+        return new TaskStats(snapshot, total, reconciledAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval}")
+    public void poll() {
+        try {
+            reconcile();
+        } catch (RuntimeException exception) {
+            log.warn("Task status count reconciliation failed, it will be retried on the next run", exception);
+        }
+    }
+
+    /**
+     * Replaces the counts with the ones in the table. The query is only trusted if no write was applied
+     * while it ran; otherwise it is repeated, up to {@value #MAX_RECONCILE_ATTEMPTS} times. Each count is
+     * moved by the difference between the table and its value when the query started, so a write applied
+     * after the query, even while the correction is running, is kept on top. Returns whether the counts
+     * were reconciled.
+     */
+    public boolean reconcile() {
+        for (int attempt = 0; attempt < MAX_RECONCILE_ATTEMPTS; attempt++) {
+            long before = changes.get();
+            Map<Status, Long> counted = snapshot().counts();
+            List<StatusCount> actual = taskRepository.countByStatus();
+            if (changes.get() == before) {
+                correct(counted, actual);
+                return true;
+            }
+        }
+        log.debug("Tasks kept changing during reconciliation, leaving the counts until the next run");
+        return false;
+    }
+
+    private void correct(Map<Status, Long> counted, List<StatusCount> actual) {
+        Map<Status, Long> expected = new EnumMap<>(Status.class);
+        actual.stream()
+            .filter(row -> row.status() != null)
+            .forEach(row -> expected.put(row.status(), row.count()));
+        long drift = 0;
+        for (Map.Entry<Status, LongAdder> entry : counts.entrySet()) {
+            long difference = expected.getOrDefault(entry.getKey(), 0L) - counted.get(entry.getKey());
+            entry.getValue().add(difference);
+            drift += Math.abs(difference);
+        }
+        boolean initial = reconciledAt == null;
+        reconciledAt = Instant.now();
+        if (drift > 0 && !initial) {
+            log.info("Corrected task status counts by {}", drift);
+        }
+    }
+
+    private void record(Map<Status, Long> delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    private void apply(Map<Status, Long> delta) {
+        delta.forEach((status, change) -> counts.get(status).add(change));
+        changes.incrementAndGet();
+    }
+
+    private static void add(Map<Status, Long> delta, Status status, long change) {
+        if (status != null) {
+            delta.merge(status, change, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+create sequence task_seq start with 1 increment by 50;
+
+create table task (
+    id          bigint       not null primary key,
+    title       varchar(255) not null,
+    description varchar(255),
+    status      varchar(255) check (status in ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    due_date    timestamp(6) not null,
+    created_at  timestamp(6),
+    updated_at  timestamp(6)
+);
@@ -0,0 +1,11 @@
+-- Keyset pages of GET /api/v1/tasks: each index matches one filter/sort combination so a page is a
+-- single index range scan that stops after `limit` rows, with no sort step.
+
+-- status filter, ordered by id (default sort)
+create index task_status_id_idx on task (status, id);
+
+-- status filter with optional due date range, ordered by due date
+create index task_status_due_date_id_idx on task (status, due_date, id);
+
+-- due date range without a status filter, ordered by due date
+create index task_due_date_id_idx on task (due_date, id);
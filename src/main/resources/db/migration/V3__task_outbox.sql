@@ -0,0 +1,49 @@
+-- Transactional outbox: every change to a task row records an event in the same transaction, whichever
+-- code path made it (JPA saves, native updates, bulk transitions). OutboxRelay drains the table.
+
+create table task_outbox (
+    id         bigint generated always as identity primary key,
+    task_id    bigint       not null,
+    event_type varchar(32)  not null,
+    payload    jsonb        not null,
+    created_at timestamp(6) not null default localtimestamp
+);
+
+-- payload has the shape of TaskResponse; timestamps serialise as ISO-8601 local date-times
+create function task_outbox_capture() returns trigger
+    language plpgsql as
+$$
+declare
+    changed task;
+    kind    varchar(32);
+begin
+    if tg_op = 'DELETE' then
+        changed := old;
+        kind := 'DELETED';
+    elsif tg_op = 'INSERT' then
+        changed := new;
+        kind := 'CREATED';
+    elsif new.status is distinct from old.status then
+        changed := new;
+        kind := 'STATUS_CHANGED';
+    else
+        changed := new;
+        kind := 'UPDATED';
+    end if;
+
+    insert into task_outbox (task_id, event_type, payload)
+    values (changed.id, kind, jsonb_build_object(
+        'id', changed.id,
+        'title', changed.title,
+        'description', changed.description,
+        'status', changed.status,
+        'dueDate', changed.due_date,
+        'createdAt', changed.created_at,
+        'updatedAt', changed.updated_at));
+    return null;
+end
+$$;
+
+create trigger task_outbox_capture
+    after insert or update or delete on task
+    for each row execute function task_outbox_capture();
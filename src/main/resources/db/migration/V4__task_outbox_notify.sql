@@ -0,0 +1,20 @@
+-- Announces each outbox event on the task_events channel so TaskChangeListener in every instance can
+-- push it to SSE subscribers. NOTIFY is delivered only on commit, and payloads are capped at 8000 bytes;
+-- the task text columns are varchar(255), so an event stays well below that.
+create function task_outbox_notify() returns trigger
+    language plpgsql as
+$$
+begin
+    perform pg_notify('task_events', jsonb_build_object(
+        'id', new.id,
+        'type', new.event_type,
+        'taskId', new.task_id,
+        'task', new.payload,
+        'occurredAt', new.created_at)::text);
+    return null;
+end
+$$;
+
+create trigger task_outbox_notify
+    after insert on task_outbox
+    for each row execute function task_outbox_notify();
@@ -0,0 +1,9 @@
+-- Full-text search for GET /api/v1/tasks/search. Postgres recomputes the generated column whenever title
+-- or description is written, so no application code or trigger has to keep it in step. Title words are
+-- weighted above description words when ranking.
+alter table task
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(description, '')), 'B')) stored;
+
+create index task_search_vector_idx on task using gin (search_vector);
@@ -0,0 +1,12 @@
+-- Shared Idempotency-Key store, used when app.idempotency.store=jdbc. A row with a null response is a
+-- reservation held by the instance executing the request; other instances wait for the response to appear.
+create table idempotency_key
+(
+    idempotency_key varchar(255) primary key,
+    request_hash    char(64)     not null,
+    response        jsonb,
+    created_at      timestamp    not null default localtimestamp
+);
+
+-- expiry sweep
+create index idempotency_key_created_at_idx on idempotency_key (created_at);
@@ -0,0 +1,63 @@
+-- Overdue flag set by OverdueTaskSweeper. Flagging is a system change, not an edit, so updated_at (and
+-- with it the task's ETag) is left alone.
+alter table task add column overdue_at timestamp(6);
+
+-- Only open, unflagged tasks are indexed, so the index is as small as the sweep's backlog and a sweep
+-- chunk is a range scan on due date. status is nullable, and "status <> 'COMPLETED'" is null for a task
+-- without one, so the predicate matches the sweep queries' "is distinct from" instead.
+create index task_overdue_candidates_idx on task (due_date, id)
+    where overdue_at is null and status is distinct from 'COMPLETED';
+
+-- moving the due date clears the flag, so the task is swept again if the new date passes too
+create function task_overdue_reset() returns trigger
+    language plpgsql as
+$$
+begin
+    if new.due_date is distinct from old.due_date then
+        new.overdue_at := null;
+    end if;
+    return new;
+end
+$$;
+
+create trigger task_overdue_reset
+    before update of due_date on task
+    for each row execute function task_overdue_reset();
+
+-- as in V3, plus an OVERDUE event when the sweeper sets the flag
+create or replace function task_outbox_capture() returns trigger
+    language plpgsql as
+$$
+declare
+    changed task;
+    kind    varchar(32);
+begin
+    if tg_op = 'DELETE' then
+        changed := old;
+        kind := 'DELETED';
+    elsif tg_op = 'INSERT' then
+        changed := new;
+        kind := 'CREATED';
+    elsif new.overdue_at is not null and old.overdue_at is null then
+        changed := new;
+        kind := 'OVERDUE';
+    elsif new.status is distinct from old.status then
+        changed := new;
+        kind := 'STATUS_CHANGED';
+    else
+        changed := new;
+        kind := 'UPDATED';
+    end if;
+
+    insert into task_outbox (task_id, event_type, payload)
+    values (changed.id, kind, jsonb_build_object(
+        'id', changed.id,
+        'title', changed.title,
+        'description', changed.description,
+        'status', changed.status,
+        'dueDate', changed.due_date,
+        'createdAt', changed.created_at,
+        'updatedAt', changed.updated_at));
+    return null;
+end
+$$;
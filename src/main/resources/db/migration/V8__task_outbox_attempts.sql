@@ -0,0 +1,4 @@
+-- Failed publish attempts per outbox event. OutboxRelay stops claiming an event once it reaches
+-- app.outbox.relay.max-attempts, so an event the sink keeps rejecting can't hold up the ones behind it.
+-- Such events stay in the table as dead letters; setting attempts back to 0 queues them again.
+alter table task_outbox add column attempts integer not null default 0;
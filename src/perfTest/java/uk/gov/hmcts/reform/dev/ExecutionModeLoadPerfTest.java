@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Starts the application once on Tomcat's platform thread pool and once on virtual threads, and drives
+ * each with the same closed-loop load while the task table is locked for a few seconds to simulate a
+ * slow-database spike. Logs throughput, latency percentiles and 503 counts for both modes. Runs under
+ * {@code ./gradlew perf}, not {@code check}, as each mode is loaded for {@code RUN}.
+ */
+@Testcontainers
+class ExecutionModeLoadPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadPerfTest.class);
+
+    private static final int CLIENTS = 400;
+    private static final Duration RUN = Duration.ofSeconds(10);
+    private static final Duration SPIKE_START = Duration.ofSeconds(3);
+    private static final Duration SPIKE = Duration.ofSeconds(3);
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @Test
+    @DisplayName("Both execution modes should answer every request with a page or a fast 503 during a DB spike")
+    void shouldCompareExecutionModesUnderDatabaseSpike() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        StringBuilder table = new StringBuilder(String.format(
+            "%-9s %8s %8s %6s %9s %9s %9s", "mode", "requests", "req/s", "503s", "p50 ms", "p99 ms", "max ms"));
+        for (Result result : List.of(platform, virtual)) {
+            table.append(String.format("%n%-9s %8d %8.0f %6d %9.1f %9.1f %9.1f", result.mode(), result.requests(),
+                                       result.requests() / (double) RUN.toSeconds(), result.rejected(),
+                                       result.percentileMillis(0.50), result.percentileMillis(0.99),
+                                       result.percentileMillis(1.0)));
+        }
+        log.info("Execution modes under a {} s database stall:{}{}", SPIKE.toSeconds(), System.lineSeparator(), table);
+        assertThat(platform.unexpected()).isZero();
+        assertThat(virtual.unexpected()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" + postgreSQLContainer.getJdbcUrl(),
+                "spring.datasource.username=" + postgreSQLContainer.getUsername(),
+                "spring.datasource.password=" + postgreSQLContainer.getPassword(),
+                "spring.threads.virtual.enabled=" + virtualThreads)
+            .run()) {
+            seed(context.getBean(TaskRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return load(virtualThreads ? "virtual" : "platform",
+                        URI.create("http://localhost:" + port + "/api/v1/tasks?limit=100"));
+        }
+    }
+
+    private static void seed(TaskRepository taskRepository) {
+        if (taskRepository.count() > 0) {
+            return;
+        }
+        taskRepository.saveAll(IntStream.range(0, 1_000)
+            .mapToObj(i -> Task.builder()
+                .title("Load task " + i)
+                .status(Status.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build())
+            .toList());
+    }
+
+    private static Result load(String mode, URI uri) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        long deadline = System.nanoTime() + RUN.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies.add(System.nanoTime() - start);
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status != 200) {
+                            unexpected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.submit(() -> {
+                Thread.sleep(SPIKE_START.toMillis());
+                lockTaskTable();
+                return null;
+            });
+            clients.shutdown();
+            assertThat(clients.awaitTermination(RUN.toSeconds() + 120, TimeUnit.SECONDS))
+                .isTrue();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(mode, sorted, rejected.get(), unexpected.get());
+    }
+
+    private static void lockTaskTable() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+            postgreSQLContainer.getJdbcUrl(), postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("lock table task in access exclusive mode");
+            Thread.sleep(SPIKE.toMillis());
+            connection.rollback();
+        }
+    }
+
+    private record Result(String mode, long[] latencies, int rejected, int unexpected) {
+
+        int requests() {
+            return latencies.length;
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
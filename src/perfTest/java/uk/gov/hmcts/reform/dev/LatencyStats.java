@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latencies and error count for one operation. Latency runs from the request's scheduled start, not
+ * its actual send, so time spent queued behind a slow system is counted (no coordinated omission).
+ */
+final class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private final AtomicInteger errors = new AtomicInteger();
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors.get();
+    }
+
+    double errorRate() {
+        int total = count();
+        return total == 0 ? 0 : errors() / (double) total;
+    }
+
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.clamp(index, 0, count - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load settings and thresholds from {@code perf-thresholds.properties}, with system properties of the
+ * same name taking precedence.
+ */
+final class LoadProfile {
+
+    enum Operation {
+        CREATE,
+        GET,
+        LIST,
+        UPDATE,
+        DELETE
+    }
+
+    private final Properties properties = new Properties();
+
+    private LoadProfile() {
+    }
+
+    static LoadProfile load() throws IOException {
+        LoadProfile profile = new LoadProfile();
+        try (InputStream in = LoadProfile.class.getResourceAsStream("/perf-thresholds.properties")) {
+            if (in == null) {
+                throw new IOException("perf-thresholds.properties not found on the classpath");
+            }
+            profile.properties.load(in);
+        }
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith("perf.") || name.startsWith("threshold."))
+            .forEach(name -> profile.properties.setProperty(name, System.getProperty(name)));
+        return profile;
+    }
+
+    double rate() {
+        return Double.parseDouble(required("perf.rate"));
+    }
+
+    Duration warmup() {
+        return Duration.parse(required("perf.warmup"));
+    }
+
+    Duration duration() {
+        return Duration.parse(required("perf.duration"));
+    }
+
+    Map<Operation, Integer> mix() {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : required("perf.mix").split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    double thresholdMillis(Operation operation, String percentile) {
+        return Double.parseDouble(threshold(operation, percentile + ".ms"));
+    }
+
+    double maxErrorRate(Operation operation) {
+        return Double.parseDouble(threshold(operation, "error-rate"));
+    }
+
+    private String threshold(Operation operation, String key) {
+        String specific = properties.getProperty("threshold." + operation.name().toLowerCase() + "." + key);
+        return specific != null ? specific : required("threshold." + key);
+    }
+
+    private String required(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing perf setting " + key);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,217 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.LoadProfile.Operation;
+
+/**
+ * Drives the task CRUD endpoints of a locally started application at a fixed open-loop arrival rate
+ * and fails when any operation's latency percentiles or error rate exceed the gates in
+ * {@code perf-thresholds.properties}.
+ *
+ * <p>Requests are issued on schedule whether or not earlier ones have completed, so a slowdown shows
+ * up as growing latency rather than as a quietly reduced request rate.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class TaskLoadPerfTest {
+
+    private static final int SEED_TASKS = 1_000;
+    private static final String TASKS = "/api/v1/tasks";
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http = HttpClient.newBuilder().executor(executor).build();
+
+    private List<Long> stableIds;
+    private final ConcurrentLinkedQueue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void tearDown() {
+        http.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("CRUD mix at the configured arrival rate should stay within the latency and error gates")
+    void shouldMeetLatencyThresholds() throws Exception {
+        LoadProfile profile = LoadProfile.load();
+        Map<Operation, Integer> mix = profile.mix();
+        long totalSeconds = profile.warmup().toSeconds() + profile.duration().toSeconds();
+        long expectedDeletes = Math.round(profile.rate() * totalSeconds * mix.getOrDefault(Operation.DELETE, 0)
+            / mix.values().stream().mapToInt(Integer::intValue).sum());
+        stableIds = seed(SEED_TASKS);
+        deletableIds.addAll(seed((int) (expectedDeletes * 1.2) + 10));
+
+        run(profile, profile.warmup(), new EnumMap<>(Operation.class));
+        Map<Operation, LatencyStats> results = new EnumMap<>(Operation.class);
+        run(profile, profile.duration(), results);
+
+        report(profile, results);
+        SoftAssertions softly = new SoftAssertions();
+        results.forEach((operation, stats) -> {
+            softly.assertThat(stats.percentileMillis(0.50)).as(operation + " p50 ms")
+                .isLessThanOrEqualTo(profile.thresholdMillis(operation, "p50"));
+            softly.assertThat(stats.percentileMillis(0.95)).as(operation + " p95 ms")
+                .isLessThanOrEqualTo(profile.thresholdMillis(operation, "p95"));
+            softly.assertThat(stats.percentileMillis(0.99)).as(operation + " p99 ms")
+                .isLessThanOrEqualTo(profile.thresholdMillis(operation, "p99"));
+            softly.assertThat(stats.percentileMillis(1.0)).as(operation + " max ms")
+                .isLessThanOrEqualTo(profile.thresholdMillis(operation, "max"));
+            softly.assertThat(stats.errorRate()).as(operation + " error rate")
+                .isLessThanOrEqualTo(profile.maxErrorRate(operation));
+        });
+        softly.assertAll();
+    }
+
+    private void run(LoadProfile profile, Duration duration, Map<Operation, LatencyStats> results)
+        throws InterruptedException {
+        Operation[] schedule = weightedSchedule(profile.mix());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / profile.rate());
+        long arrivals = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < arrivals; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            LatencyStats stats = results.computeIfAbsent(operation, key -> new LatencyStats());
+            inFlight.add(http.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    stats.record(System.nanoTime() - scheduledAt);
+                    if (failure != null || response.statusCode() >= 400) {
+                        stats.recordError();
+                    }
+                }));
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        } catch (ExecutionException | TimeoutException exception) {
+            // failures are already counted per request
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case CREATE -> HttpRequest.newBuilder(uri(TASKS))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(taskJson("perf task")))
+                .build();
+            case GET -> HttpRequest.newBuilder(uri(TASKS + "/" + randomStableId())).GET().build();
+            case LIST -> HttpRequest.newBuilder(uri(TASKS + "?limit=50")).GET().build();
+            case UPDATE -> HttpRequest.newBuilder(uri(TASKS + "/" + randomStableId() + "/status?status=IN_PROGRESS"))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+            case DELETE -> {
+                Long id = deletableIds.poll();
+                yield HttpRequest.newBuilder(uri(TASKS + "/" + (id != null ? id : Long.MAX_VALUE))).DELETE().build();
+            }
+        };
+    }
+
+    private List<Long> seed(int count) throws Exception {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += 1_000) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = offset; i < Math.min(count, offset + 1_000); i++) {
+                body.append(i == offset ? "" : ",").append(taskJson("seed task " + i));
+            }
+            HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(uri(TASKS + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+                ids.add(result.path("task").path("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    private static void report(LoadProfile profile, Map<Operation, LatencyStats> results) {
+        System.out.printf("Open-loop run at %.0f req/s for %s%n", profile.rate(), profile.duration());
+        System.out.printf("%-8s %8s %8s %8s %8s %8s %8s%n", "op", "count", "errors", "p50 ms", "p95 ms", "p99 ms",
+                          "max ms");
+        results.forEach((operation, stats) -> System.out.printf(
+            "%-8s %8d %8d %8.1f %8.1f %8.1f %8.1f%n", operation, stats.count(), stats.errors(),
+            stats.percentileMillis(0.50), stats.percentileMillis(0.95), stats.percentileMillis(0.99),
+            stats.percentileMillis(1.0)));
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+            .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+            .toArray(Operation[]::new);
+    }
+
+    private Long randomStableId() {
+        return stableIds.get(ThreadLocalRandom.current().nextInt(stableIds.size()));
+    }
+
+    private String taskJson(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"generated by the perf test\",\"status\":\"PENDING\","
+            + "\"dueDate\":\"" + LocalDateTime.now().plusDays(7).withNano(0) + "\"}";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
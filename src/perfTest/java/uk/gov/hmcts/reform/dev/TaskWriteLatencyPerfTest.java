@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+/**
+ * Compares the median latency of the previous read-then-write status update and delete with the single
+ * statement versions in {@code TaskServiceImpl}, against a real Postgres instance. The numbers are
+ * logged rather than asserted: a wall-clock comparison on a shared machine is too noisy to gate on.
+ */
+@SpringBootTest
+@Testcontainers
+class TaskWriteLatencyPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteLatencyPerfTest.class);
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testDB")
+            .withUsername("test_user")
+            .withPassword("test123");
+
+    @DynamicPropertySource
+    static void initialize(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    @DisplayName("Report status update latency for findById plus save against a single round trip")
+    void reportStatusUpdateLatency() {
+        List<Long> ids = seedTasks(WARMUP + ITERATIONS);
+
+        long legacy = medianNanos(ids, id -> {
+            Task task = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+            task.setStatus(Status.IN_PROGRESS);
+            taskRepository.save(task);
+        });
+        long current = medianNanos(ids, id -> taskService.updateTaskStatusById(id, Status.COMPLETED));
+
+        report("updateTaskStatusById", legacy, current);
+    }
+
+    @Test
+    @DisplayName("Report delete latency for findById plus delete against a single round trip")
+    void reportDeleteLatency() {
+        List<Long> legacyIds = seedTasks(WARMUP + ITERATIONS);
+        List<Long> currentIds = seedTasks(WARMUP + ITERATIONS);
+
+        long legacy = medianNanos(legacyIds, id -> taskRepository.delete(
+            taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id))));
+        long current = medianNanos(currentIds, taskService::deleteTask);
+
+        report("deleteTask", legacy, current);
+    }
+
+    private List<Long> seedTasks(int count) {
+        List<Task> tasks = IntStream.range(0, count)
+            .mapToObj(i -> Task.builder()
+                .title("Latency task " + i)
+                .status(Status.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build())
+            .toList();
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    private static long medianNanos(List<Long> ids, LongConsumer operation) {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ids.size(); i++) {
+            long start = System.nanoTime();
+            operation.accept(ids.get(i));
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static void report(String operation, long legacyNanos, long currentNanos) {
+        log.info(String.format(
+            "%s median latency: read-then-write %.3f ms, single statement %.3f ms (%.1f%% faster)",
+            operation,
+            legacyNanos / 1_000_000.0,
+            currentNanos / 1_000_000.0,
+            100.0 * (legacyNanos - currentNanos) / legacyNanos
+        ));
+    }
+}
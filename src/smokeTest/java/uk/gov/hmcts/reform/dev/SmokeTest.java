@@ -106,7 +106,7 @@ class SmokeTest {
             .get("/api/v1/tasks")
             .then()
             .statusCode(200)
-            .body("size()", greaterThanOrEqualTo(1));
+            .body("items.size()", greaterThanOrEqualTo(1));
     }
 
     @Test
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    @Test
+    void shouldRejectOnceLimitIsReachedAndAdmitAgainAfterRelease() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, THRESHOLD, 0.5);
+        long start = System.nanoTime();
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(start, false);
+
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldGrowWhileFastAndBusyUpToMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 6, THRESHOLD, 0.5);
+
+        IntStream.range(0, 200).forEach(i -> {
+            while (limit.tryAcquire()) {
+                // fill every slot so the limit counts as in use
+            }
+            limit.release(System.nanoTime(), false);
+        });
+
+        assertThat(limit.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, THRESHOLD, 0.5);
+
+        IntStream.range(0, 200).forEach(i -> {
+            limit.tryAcquire();
+            limit.release(System.nanoTime(), false);
+        });
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldBackOffOncePerRoundTripOnSlowOrOverloadedResponses() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16, 1, 100, Duration.ofMillis(5), 0.5);
+        Thread.sleep(2);
+        long inFlightStart = System.nanoTime();
+        IntStream.range(0, 3).forEach(i -> limit.tryAcquire());
+        Thread.sleep(2);
+
+        // both were already in flight when the first overload was seen, so the limit halves only once
+        limit.release(inFlightStart, true);
+        limit.release(inFlightStart, true);
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        Thread.sleep(2);
+        long slowStart = System.nanoTime();
+        Thread.sleep(10);
+        limit.release(slowStart, false);
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CommitAwareCaffeineCacheTest {
+
+    private final CommitAwareCaffeineCache cache =
+        new CommitAwareCaffeineCache("tasks", Caffeine.newBuilder().build(), true);
+
+    @Test
+    void shouldApplyChangesOnlyWhenTheTransactionCommits() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            cache.evict(2L);
+            cache.put(3L, "three");
+            assertThat(cache.get(1L)).isNotNull();
+            assertThat(cache.get(3L)).isNull();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.getFirst().afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            synchronizations.get(2).afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).as("rolled back eviction").isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    @Test
+    void shouldClearOnlyWhenTheTransactionCommits() {
+        cache.put(1L, "one");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.clear();
+            assertThat(cache.get(1L)).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().getFirst().afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDropAValueLoadedWhileAnEvictionCommitted() {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> store =
+            mock(com.github.benmanes.caffeine.cache.Cache.class);
+        when(store.asMap()).thenReturn(new ConcurrentHashMap<>());
+        when(store.get(any(), any())).thenAnswer(
+            invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(invocation.getArgument(0)));
+        CommitAwareCaffeineCache racing = new CommitAwareCaffeineCache("tasks", store, true);
+
+        String loaded = racing.get(1L, () -> {
+            // a write to the same task commits while the old row is being read
+            racing.evict(1L);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        verify(store).invalidate(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepAValueLoadedWithoutAConcurrentEviction() {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> store =
+            mock(com.github.benmanes.caffeine.cache.Cache.class);
+        when(store.get(any(), any())).thenAnswer(
+            invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(invocation.getArgument(0)));
+        CommitAwareCaffeineCache quiet = new CommitAwareCaffeineCache("tasks", store, true);
+
+        quiet.get(1L, () -> "fresh");
+
+        verify(store, never()).invalidate(any());
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ConcurrencyLimitFilter filter =
+        new ConcurrencyLimitFilter(1, 1, 10, Duration.ofSeconds(1), 0.9, objectMapper, meterRegistry);
+
+    @Test
+    void shouldShedRequestsOverTheLimitWithRetryAfter() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(taskRequest("/api/v1/tasks/1"), new MockHttpServletResponse(), blocking);
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(taskRequest("/api/v1/tasks/2"), shed, new MockFilterChain());
+
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(shed.getContentAsString()).contains("concurrency limit");
+        assertThat(meterRegistry.get("task.api.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.api.concurrency.limit").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(taskRequest("/api/v1/tasks/2"), admitted, new MockFilterChain());
+        assertThat(admitted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldLimitOnlyShortTaskApiRequests() {
+        assertThat(filter.shouldNotFilter(taskRequest("/api/v1/tasks"))).isFalse();
+        assertThat(filter.shouldNotFilter(taskRequest("/api/v1/tasks/search"))).isFalse();
+        assertThat(filter.shouldNotFilter(taskRequest("/api/v1/tasks/events"))).isTrue();
+        assertThat(filter.shouldNotFilter(taskRequest("/api/v1/tasks/export"))).isTrue();
+        assertThat(filter.shouldNotFilter(taskRequest("/prometheus"))).isTrue();
+    }
+
+    private static MockHttpServletRequest taskRequest(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exception.BulkheadFullException;
+
+class DatabaseBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DatabaseBulkhead bulkhead;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new DatabaseBulkhead(1, Duration.ofMillis(50), meterRegistry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRejectCallerWhenAllPermitsAreHeldPastMaxWait() throws Throwable {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint blocking = mock(ProceedingJoinPoint.class);
+        when(blocking.proceed()).then(invocation -> {
+            entered.countDown();
+            release.await();
+            return "first";
+        });
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> call(blocking), executor);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.limit(mock(ProceedingJoinPoint.class)));
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isZero();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReusePermitForNestedCallOnSameThread() throws Throwable {
+        ProceedingJoinPoint inner = mock(ProceedingJoinPoint.class);
+        when(inner.proceed()).thenReturn("inner");
+        ProceedingJoinPoint outer = mock(ProceedingJoinPoint.class);
+        when(outer.proceed()).then(invocation -> bulkhead.limit(inner));
+
+        assertThat(bulkhead.limit(outer)).isEqualTo("inner");
+    }
+
+    @Test
+    void shouldReleasePermitWhenCallFails() throws Throwable {
+        ProceedingJoinPoint failing = mock(ProceedingJoinPoint.class);
+        when(failing.proceed()).thenThrow(new IllegalStateException("boom"));
+        ProceedingJoinPoint succeeding = mock(ProceedingJoinPoint.class);
+        when(succeeding.proceed()).thenReturn("ok");
+
+        assertThrows(IllegalStateException.class, () -> bulkhead.limit(failing));
+
+        assertThat(bulkhead.limit(succeeding)).isEqualTo("ok");
+    }
+
+    private Object call(ProceedingJoinPoint joinPoint) {
+        try {
+            return bulkhead.limit(joinPoint);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter();
+
+    @Test
+    void shouldSeedTheRequestWithTheClientsLastWriteAndReturnNewWrites() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v1/tasks/1/status");
+        request.addHeader(ReadYourWrites.LAST_WRITE_HEADER, "1000");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong seen = new AtomicLong();
+        FilterChain chain = (req, res) -> {
+            seen.set(ReadYourWrites.lastWriteAt());
+            ReadYourWrites.recordWrite(2000);
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(seen).hasValue(1000);
+        assertThat(response.getHeader(ReadYourWrites.LAST_WRITE_HEADER)).isEqualTo("2000");
+        assertThat(ReadYourWrites.lastWriteAt()).as("the client's time does not outlive the request").isZero();
+    }
+
+    @Test
+    void shouldIgnoreMalformedAndFutureWriteTimes() throws Exception {
+        AtomicLong seen = new AtomicLong();
+        FilterChain chain = (req, res) -> seen.set(ReadYourWrites.lastWriteAt());
+
+        MockHttpServletRequest malformed = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        malformed.addHeader(ReadYourWrites.LAST_WRITE_HEADER, "yesterday");
+        filter.doFilter(malformed, new MockHttpServletResponse(), chain);
+        assertThat(seen).hasValue(0);
+
+        MockHttpServletRequest future = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        future.addHeader(ReadYourWrites.LAST_WRITE_HEADER, Long.toString(Long.MAX_VALUE));
+        long before = System.currentTimeMillis();
+        filter.doFilter(future, new MockHttpServletResponse(), chain);
+        assertThat(seen.get()).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldNotSetTheHeaderWhenNothingWasWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), response, (req, res) -> { });
+
+        assertThat(response.getHeader(ReadYourWrites.LAST_WRITE_HEADER)).isNull();
+    }
+}
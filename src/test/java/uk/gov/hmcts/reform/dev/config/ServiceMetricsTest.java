@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskServiceImpl;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
+
+class ServiceMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TaskServiceImpl(
+            taskRepository,
+            new TaskMapper(),
+            mock(Validator.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            mock(TaskStatusCounters.class)
+        ));
+        factory.addAspect(new ServiceMetrics(meterRegistry));
+        taskService = factory.getProxy();
+    }
+
+    @Test
+    void shouldTimeSuccessfulCall() {
+        when(taskRepository.findAllResponses()).thenReturn(List.of());
+
+        taskService.getAllTasks();
+
+        Timer timer = meterRegistry.get(ServiceMetrics.TIMER_NAME)
+            .tags("class", "TaskServiceImpl", "method", "getAllTasks", "outcome", "success", "exception", "none")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagFailureWithOutcomeAndExceptionType() {
+        when(taskRepository.findResponseById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(99L));
+
+        Timer timer = meterRegistry.get(ServiceMetrics.TIMER_NAME)
+            .tags("method", "getTaskById", "outcome", "client_error", "exception", "TaskNotFoundException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTreatUnexpectedFailureAsServerError() {
+        when(taskRepository.findAllResponses()).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThrows(IllegalStateException.class, () -> taskService.getAllTasks());
+
+        assertThat(meterRegistry.get(ServiceMetrics.TIMER_NAME)
+                       .tags("outcome", "server_error", "exception", "IllegalStateException")
+                       .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatisticsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatistics sqlStatistics = new SqlStatistics(meterRegistry);
+
+    @Test
+    void shouldNormaliseWhitespaceAndInLists() {
+        String sql = SqlStatistics.normalise(
+            List.of(new QueryInfo("select t.id\n  from task t where t.id in (?, ?,?)")));
+
+        assertThat(sql).isEqualTo("select t.id from task t where t.id in (?)");
+    }
+
+    @Test
+    void shouldAggregateExecutionsOfSameStatement() {
+        execute("select * from task where id in (?, ?)", true);
+        execute("select * from task where id in (?)", true);
+        execute("select * from task where id in (?)", false);
+
+        SqlStatistics.Snapshot snapshot = sqlStatistics.snapshot(10);
+
+        assertThat(snapshot.executions()).isEqualTo(3);
+        assertThat(snapshot.mostFrequent()).singleElement().satisfies(statement -> {
+            assertThat(statement.sql()).isEqualTo("select * from task where id in (?)");
+            assertThat(statement.executions()).isEqualTo(3);
+            assertThat(statement.failures()).isEqualTo(1);
+        });
+        assertThat(meterRegistry.get("sql.statements").tag("type", "select").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountStatementsPerRequestOnCurrentThread() {
+        execute("select 1", true);
+        sqlStatistics.beginRequest();
+        execute("select 1", true);
+        execute("select 2", true);
+
+        int count = sqlStatistics.endRequest("/api/v1/tasks/{id}");
+        execute("select 3", true);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(sqlStatistics.snapshot(10).requests().maxStatements()).isEqualTo(2);
+        assertThat(meterRegistry.get("sql.statements.per.request").tag("uri", "/api/v1/tasks/{id}")
+                       .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBucketStatementsBeyondTrackingLimit() {
+        IntStream.range(0, SqlStatistics.MAX_TRACKED_STATEMENTS + 5).forEach(i -> execute("select " + i, true));
+
+        assertThat(sqlStatistics.snapshot(SqlStatistics.MAX_TRACKED_STATEMENTS + 5).mostFrequent())
+            .hasSize(SqlStatistics.MAX_TRACKED_STATEMENTS + 1)
+            .anySatisfy(statement -> {
+                assertThat(statement.sql()).isEqualTo(SqlStatistics.OTHER_STATEMENTS);
+                assertThat(statement.executions()).isEqualTo(5);
+            });
+    }
+
+    private void execute(String sql, boolean success) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setSuccess(success);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        sqlStatistics.beforeQuery(executionInfo, queries);
+        sqlStatistics.afterQuery(executionInfo, queries);
+    }
+}
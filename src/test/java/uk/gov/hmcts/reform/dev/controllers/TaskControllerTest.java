@@ -2,9 +2,15 @@ package uk.gov.hmcts.reform.dev.controllers;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -14,13 +20,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,16 +47,37 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dtos.BatchCreateResponse;
+import uk.gov.hmcts.reform.dev.dtos.BatchItemResult;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dtos.ExportFormat;
+import uk.gov.hmcts.reform.dev.dtos.TaskCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskListVersion;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.dtos.TaskStats;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+import uk.gov.hmcts.reform.dev.events.TaskEventStream;
+import uk.gov.hmcts.reform.dev.exception.BulkheadFullException;
+import uk.gov.hmcts.reform.dev.exception.IdempotencyKeyInProgressException;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
 import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.idempotency.IdempotentRequests;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.services.TaskExportService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
 
 @Testcontainers
 @AutoConfigureMockMvc
@@ -57,6 +90,18 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskEventStream taskEventStream;
+
+    @Mock
+    private IdempotentRequests idempotentRequests;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -134,6 +179,56 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.updatedAt").exists());
     }
 
+    @Test
+    void shouldCreateTaskThroughIdempotentRequestsWhenKeyIsGiven() throws Exception {
+        TaskRequest request = sampleTaskRequest(Status.PENDING, LOCAL_DATE_TIME.plusDays(1), "Sample Task", "desc");
+        TaskResponse response = sampleTaskResponse(1L, Status.PENDING, LOCAL_DATE_TIME.plusDays(1));
+        when(idempotentRequests.execute(eq("retry-1"), eq(request), any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/tasks")
+                            .header("Idempotency-Key", "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1));
+
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    void shouldReturnConflictWhileFirstRequestWithKeyIsInProgress() throws Exception {
+        TaskRequest request = sampleTaskRequest(Status.PENDING, LOCAL_DATE_TIME.plusDays(1), "Sample Task", "desc");
+        when(idempotentRequests.execute(eq("retry-1"), eq(request), any()))
+            .thenThrow(new IdempotencyKeyInProgressException(Duration.ofSeconds(10)));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                            .header("Idempotency-Key", "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void shouldReturnPerItemResultsWhenCreatingTasksInBatch() throws Exception {
+        TaskRequest valid = sampleTaskRequest(Status.PENDING, LOCAL_DATE_TIME.plusDays(1), "Sample Task", "desc");
+        TaskRequest invalid = sampleTaskRequest(Status.PENDING, LOCAL_DATE_TIME.plusDays(1), "", "desc");
+        BatchCreateResponse response = new BatchCreateResponse(1, 1, List.of(
+            new BatchItemResult(0, sampleTaskResponse(1L, Status.PENDING, LOCAL_DATE_TIME.plusDays(1)), List.of()),
+            new BatchItemResult(1, null, List.of("title: Title is a mandatory field"))
+        ));
+        when(taskService.createTasks(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.results[0].task.id").value(1L))
+            .andExpect(jsonPath("$.results[1].errors[0]").value("title: Title is a mandatory field"));
+    }
+
     @Test
     void shouldReturnBadRequestWhenGivenNullTitleOrEmptyTaskRequest() throws Exception {
 
@@ -205,12 +300,134 @@ class TaskControllerTest {
             List.of(
                 sampleTaskResponse(1L, Status.IN_PROGRESS, LOCAL_DATE_TIME.plusDays(1)));
         when(taskService.getAllTasks()).thenReturn(responseList);
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(1L, 1L, LOCAL_DATE_TIME));
         mockMvc
-            .perform(get("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON))
+            .perform(get("/api/v1/tasks").param("unpaged", "true").contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void shouldReturnFirstPageWithNextCursorWhenGetTasks() throws Exception {
+        TaskPage page = new TaskPage(
+            List.of(sampleTaskResponse(1L, Status.IN_PROGRESS, LOCAL_DATE_TIME.plusDays(1))),
+            new TaskCursor(1L).encode()
+        );
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 1)).thenReturn(page);
+
+        mockMvc
+            .perform(get("/api/v1/tasks").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].id").value(1L))
+            .andExpect(jsonPath("$.next").value(page.next()));
+    }
+
+    @Test
+    void shouldPassCursorThroughWhenGetNextPage() throws Exception {
+        String cursor = new TaskCursor(1L).encode();
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, cursor, 50)).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc
+            .perform(get("/api/v1/tasks").param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(0)))
+            .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void shouldBindFilterAndSortParametersWhenGetTasks() throws Exception {
+        TaskFilter filter = new TaskFilter(Status.PENDING, LOCAL_DATE_TIME, LOCAL_DATE_TIME.plusDays(7));
+        when(taskService.getTasks(filter, TaskSort.DUE_DATE, null, 50)).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc
+            .perform(get("/api/v1/tasks")
+                         .param("status", "PENDING")
+                         .param("dueFrom", LOCAL_DATE_TIME.toString())
+                         .param("dueTo", LOCAL_DATE_TIME.plusDays(7).toString())
+                         .param("sort", "DUE_DATE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenGivenInvalidCursor() throws Exception {
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "garbage", 50))
+            .thenThrow(new InvalidRequestException("Invalid cursor: garbage"));
+
+        mockMvc
+            .perform(get("/api/v1/tasks").param("cursor", "garbage"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid cursor: garbage"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWithRetryAfterWhenBulkheadIsFull() throws Exception {
+        when(taskService.getTaskById(1L)).thenThrow(new BulkheadFullException(Duration.ofSeconds(2)));
+
+        mockMvc
+            .perform(get("/api/v1/tasks/1"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"))
+            .andExpect(jsonPath("$.message").value("Database is busy, no capacity became available within 2000 ms"));
+    }
+
+    @Test
+    void shouldStreamExportInRequestedFormat() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("id,title\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(taskExportService).exportTasks(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc
+            .perform(get("/api/v1/tasks/export").param("format", "CSV"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=tasks.csv"))
+            .andExpect(content().string("id,title\n"));
+    }
+
+    @Test
+    void shouldSearchTasks() throws Exception {
+        TaskResponse taskResponse = sampleTaskResponse(1L, Status.PENDING, LOCAL_DATE_TIME.plusDays(1));
+        when(taskService.searchTasks("hearing bundle", null, 20)).thenReturn(new TaskPage(List.of(taskResponse), "n"));
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "hearing bundle").param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].id").value(1))
+            .andExpect(jsonPath("$.next").value("n"));
+    }
+
+    @Test
+    void shouldReturnStatusCountsFromCounters() throws Exception {
+        when(taskStatusCounters.snapshot()).thenReturn(new TaskStats(
+            Map.of(Status.PENDING, 3L, Status.IN_PROGRESS, 2L, Status.COMPLETED, 5L), 10, null));
+
+        mockMvc.perform(get("/api/v1/tasks/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts.PENDING").value(3))
+            .andExpect(jsonPath("$.counts.COMPLETED").value(5))
+            .andExpect(jsonPath("$.total").value(10));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void shouldSubscribeToTaskEventsFromLastEventId() throws Exception {
+        when(taskEventStream.subscribe("41")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/tasks/events").header("Last-Event-ID", "41")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+
+        verify(taskEventStream).subscribe("41");
+    }
+
     @Test
     void shouldReturnCorrectTaskWhenGivenExistingTaskId() throws Exception {
         TaskResponse taskResponse = sampleTaskResponse(1L, Status.IN_PROGRESS, LOCAL_DATE_TIME.plusDays(1));
@@ -227,6 +444,71 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.updatedAt").exists());
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingTaskWhenETagMatches() throws Exception {
+        TaskResponse taskResponse = sampleTaskResponse(1L, Status.IN_PROGRESS, LOCAL_DATE_TIME.plusDays(1));
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersion(1L, LOCAL_DATE_TIME));
+
+        String eTag = mockMvc.perform(get("/api/v1/tasks/{id}", 1L))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(header().exists("Last-Modified"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", 1L).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        verify(taskService).getTaskById(1L);
+    }
+
+    @Test
+    void shouldReturnTaskWhenETagIsStale() throws Exception {
+        TaskResponse taskResponse = sampleTaskResponse(1L, Status.COMPLETED, LOCAL_DATE_TIME.plusDays(1));
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersion(1L, LOCAL_DATE_TIME));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", 1L).header("If-None-Match", "\"1-0\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedUnpagedList() throws Exception {
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(1L, 1L, LOCAL_DATE_TIME));
+        when(taskService.getAllTasks()).thenReturn(List.of());
+
+        String eTag = mockMvc.perform(get("/api/v1/tasks").param("unpaged", "true"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").param("unpaged", "true").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+        verify(taskService).getAllTasks();
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedPage() throws Exception {
+        TaskPage page = new TaskPage(List.of(sampleTaskResponse(1L, Status.PENDING, LOCAL_DATE_TIME)), null);
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 50)).thenReturn(page);
+
+        String eTag = mockMvc.perform(get("/api/v1/tasks"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldNotLookUpVersionForUnconditionalRead() throws Exception {
+        when(taskService.getTaskById(1L)).thenReturn(sampleTaskResponse(1L, Status.PENDING, LOCAL_DATE_TIME));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", 1L)).andExpect(status().isOk());
+
+        verify(taskService, never()).getTaskVersion(1L);
+    }
+
     @Test
     void shouldReturnNotFoundWhenGivenNonExistingTaskId() throws Exception {
         long invalidId = 999L;
@@ -241,8 +523,9 @@ class TaskControllerTest {
     @Test
     void shouldReturnEmptyListWhenGetEmptyTaskList() throws Exception {
         when(taskService.getAllTasks()).thenReturn(List.of());
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(0L, null, null));
 
-        mockMvc.perform(get("/api/v1/tasks"))
+        mockMvc.perform(get("/api/v1/tasks").param("unpaged", "true"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(0)));
     }
@@ -311,6 +594,34 @@ class TaskControllerTest {
             .andDo(print());
     }
 
+    @Test
+    void shouldReturnUpdatedIdsWhenBulkUpdatingStatus() throws Exception {
+        BulkStatusUpdateRequest request =
+            new BulkStatusUpdateRequest(null, Status.IN_PROGRESS, LOCAL_DATE_TIME, Status.COMPLETED);
+        when(taskService.bulkUpdateStatus(request)).thenReturn(new BulkStatusUpdateResponse(2, List.of(3L, 7L), false));
+
+        mockMvc
+            .perform(
+                patch("/api/v1/tasks/status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(2))
+            .andExpect(jsonPath("$.ids[1]").value(7L))
+            .andExpect(jsonPath("$.more").value(false));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBulkUpdateHasNoTargetStatus() throws Exception {
+        mockMvc
+            .perform(
+                patch("/api/v1/tasks/status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ids\":[1]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0]").value("targetStatus: Target status is a mandatory field"));
+    }
+
     @Test
     void shouldReturnNotFoundWhenUpdatingNonExistentTask() throws Exception {
         Long taskId = 999L;
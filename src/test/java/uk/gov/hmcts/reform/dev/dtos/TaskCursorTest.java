@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+
+class TaskCursorTest {
+
+    @Test
+    void shouldRoundTripEncodedCursor() {
+        TaskCursor cursor = new TaskCursor(42L);
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRoundTripDueDateCursor() {
+        TaskCursor cursor = new TaskCursor(TaskSort.DUE_DATE, 42L, LocalDateTime.of(2025, 10, 1, 12, 30, 15, 500));
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode("not-a-cursor"));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode("aTphYmM"));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encode("d:42")));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encode("d:42:yesterday")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
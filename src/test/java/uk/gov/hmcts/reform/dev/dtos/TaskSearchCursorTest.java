@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.dtos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+
+class TaskSearchCursorTest {
+
+    @Test
+    void shouldRoundTripRankExactly() {
+        TaskSearchCursor cursor = new TaskSearchCursor(0.0607927f, 42L);
+
+        assertThat(TaskSearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectListCursorAndTamperedCursor() {
+        assertThrows(InvalidRequestException.class, () -> TaskSearchCursor.decode(new TaskCursor(42L).encode()));
+        assertThrows(InvalidRequestException.class, () -> TaskSearchCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dtos.TaskEvent;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.TaskEventType;
+import uk.gov.hmcts.reform.dev.repository.OutboxRepository;
+
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String PAYLOAD = """
+        {"id": 7, "title": "Outboxed", "description": null, "status": "PENDING",
+         "dueDate": "2025-10-08T12:00:00", "createdAt": "2025-10-01T12:00:00", "updatedAt": null}""";
+
+    private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    private final TaskEventSink sink = mock(TaskEventSink.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        relay = new OutboxRelay(outboxRepository, sink, new TransactionTemplate(transactionManager), objectMapper, 2,
+                                MAX_ATTEMPTS, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishClaimedEventsInOutboxOrder() throws Exception {
+        when(outboxRepository.claimBatch(2, MAX_ATTEMPTS)).thenReturn(List.of(
+            new OutboxEvent(11L, 7L, TaskEventType.STATUS_CHANGED, PAYLOAD, NOW),
+            new OutboxEvent(10L, 7L, TaskEventType.CREATED, PAYLOAD, NOW)));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        ArgumentCaptor<List<TaskEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(TaskEvent::id).containsExactly(10L, 11L);
+        assertThat(captor.getValue().getFirst().task().status()).isEqualTo(Status.PENDING);
+        assertThat(captor.getValue().getFirst().task().dueDate()).isEqualTo(NOW.plusDays(7));
+        assertThat(meterRegistry.get("task.outbox.published").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRollBackBatchAndCountAttemptWhenSinkFails() throws Exception {
+        OutboxEvent event = new OutboxEvent(10L, 7L, TaskEventType.CREATED, PAYLOAD, NOW);
+        when(outboxRepository.claimBatch(2, MAX_ATTEMPTS)).thenReturn(List.of(event));
+        when(outboxRepository.claimBatch(1, MAX_ATTEMPTS)).thenReturn(List.of(event));
+        when(outboxRepository.recordFailedAttempt(10L)).thenReturn(1);
+        doThrow(new IOException("disk full")).when(sink).publish(anyList());
+
+        relay.poll();
+
+        verify(transactionManager, times(2)).rollback(any());
+        verify(outboxRepository).recordFailedAttempt(10L);
+        assertThat(meterRegistry.get("task.outbox.published").counter().count()).isZero();
+        assertThat(meterRegistry.get("task.outbox.dead.lettered").counter().count()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishEventsAheadOfUnreadableOneAndCountItsAttempt() throws Exception {
+        OutboxEvent readable = new OutboxEvent(10L, 7L, TaskEventType.CREATED, PAYLOAD, NOW);
+        OutboxEvent unreadable = new OutboxEvent(11L, 8L, TaskEventType.CREATED, "not json", NOW);
+        when(outboxRepository.claimBatch(2, MAX_ATTEMPTS)).thenReturn(List.of(readable, unreadable));
+        when(outboxRepository.claimBatch(1, MAX_ATTEMPTS)).thenReturn(List.of(readable), List.of(unreadable));
+        when(outboxRepository.recordFailedAttempt(11L)).thenReturn(MAX_ATTEMPTS);
+
+        relay.poll();
+
+        ArgumentCaptor<List<TaskEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(TaskEvent::id).containsExactly(10L);
+        verify(outboxRepository).recordFailedAttempt(11L);
+        assertThat(meterRegistry.get("task.outbox.published").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.outbox.dead.lettered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDrainingWhileBatchesAreFull() throws Exception {
+        when(outboxRepository.claimBatch(2, MAX_ATTEMPTS))
+            .thenReturn(List.of(new OutboxEvent(1L, 1L, TaskEventType.CREATED, PAYLOAD, NOW),
+                                new OutboxEvent(2L, 2L, TaskEventType.CREATED, PAYLOAD, NOW)))
+            .thenReturn(List.of(new OutboxEvent(3L, 3L, TaskEventType.CREATED, PAYLOAD, NOW)));
+
+        relay.poll();
+
+        verify(outboxRepository, times(2)).claimBatch(2, MAX_ATTEMPTS);
+        verify(sink, times(2)).publish(anyList());
+    }
+}
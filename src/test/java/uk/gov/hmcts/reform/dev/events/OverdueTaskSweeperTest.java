@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class OverdueTaskSweeperTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OverdueTaskSweeper sweeper = new OverdueTaskSweeper(
+        taskRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), 2, meterRegistry);
+
+    @Test
+    void shouldFlagChunksUntilOneComesBackShort() {
+        when(taskRepository.flagOverdue(eq(2), any(LocalDateTime.class))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(taskRepository.countUnflaggedOverdue(any(LocalDateTime.class))).thenReturn(4L);
+
+        assertThat(sweeper.sweep()).isEqualTo(3);
+
+        verify(taskRepository, times(2)).flagOverdue(eq(2), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("task.overdue.flagged").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("task.overdue.chunk").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("task.overdue.backlog").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldStopAfterOneQueryWhenNothingIsOverdue() {
+        when(taskRepository.flagOverdue(eq(2), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertThat(sweeper.sweep()).isZero();
+
+        verify(taskRepository, times(1)).flagOverdue(eq(2), any(LocalDateTime.class));
+    }
+}
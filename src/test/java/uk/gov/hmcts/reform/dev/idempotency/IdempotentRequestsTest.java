@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.IdempotencyKeyInProgressException;
+import uk.gov.hmcts.reform.dev.exception.IdempotencyKeyReusedException;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+class IdempotentRequestsTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final TaskRequest REQUEST = new TaskRequest("Title", "desc", Status.PENDING, DUE);
+    private static final TaskResponse RESPONSE =
+        new TaskResponse(1L, "Title", "desc", Status.PENDING, DUE, DUE, DUE);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotentRequests idempotentRequests = new IdempotentRequests(
+        Jackson2ObjectMapperBuilder.json().build(),
+        new StaticListableBeanFactory().getBeanProvider(JdbcIdempotencyStore.class),
+        100, Duration.ofHours(1), Duration.ofMillis(500), meterRegistry);
+
+    @Test
+    void shouldReplayFirstResponseWithoutRunningAgain() {
+        AtomicInteger executions = new AtomicInteger();
+
+        TaskResponse first = idempotentRequests.execute("key", REQUEST, () -> count(executions));
+        TaskResponse retry = idempotentRequests.execute("key", REQUEST, () -> count(executions));
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("task.idempotency.replays").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMakeConcurrentDuplicateWaitForFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<TaskResponse> first = CompletableFuture.supplyAsync(
+            () -> idempotentRequests.execute("key", REQUEST, () -> {
+                started.countDown();
+                await(finish);
+                return count(executions);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<TaskResponse> duplicate = CompletableFuture.supplyAsync(
+            () -> idempotentRequests.execute("key", REQUEST, () -> count(executions)));
+        finish.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldGiveUpWaitingOnSlowFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> idempotentRequests.execute("key", REQUEST, () -> {
+            started.countDown();
+            await(finish);
+            return RESPONSE;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThrows(IdempotencyKeyInProgressException.class,
+                         () -> idempotentRequests.execute("key", REQUEST, () -> RESPONSE));
+        } finally {
+            finish.countDown();
+        }
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        idempotentRequests.execute("key", REQUEST, () -> RESPONSE);
+        TaskRequest other = new TaskRequest("Other", "desc", Status.PENDING, DUE);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                     () -> idempotentRequests.execute("key", other, () -> RESPONSE));
+    }
+
+    @Test
+    void shouldRunAgainAfterFailedExecution() {
+        assertThrows(IllegalStateException.class, () -> idempotentRequests.execute("key", REQUEST, () -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        assertThat(idempotentRequests.execute("key", REQUEST, () -> RESPONSE)).isEqualTo(RESPONSE);
+    }
+
+    @Test
+    void shouldRejectOverlongKey() {
+        String key = "k".repeat(IdempotentRequests.MAX_KEY_LENGTH + 1);
+
+        assertThrows(InvalidRequestException.class, () -> idempotentRequests.execute(key, REQUEST, () -> RESPONSE));
+    }
+
+    private static TaskResponse count(AtomicInteger executions) {
+        return new TaskResponse((long) executions.incrementAndGet(), "Title", "desc", Status.PENDING, DUE, DUE, DUE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -27,14 +27,14 @@ public class TaskMapperTest {
                 "Sample title",
                 "sample description for mapper unit testing",
                 Status.IN_PROGRESS,
-                LocalDateTime.now().plusDays(1)
+                LocalDateTime.of(2025, 8, 1, 12, 0, 0, 123_456_789)
             );
         Task entity = taskMapper.toEntity(taskRequest);
 
         assertThat(entity.getTitle()).isEqualTo(taskRequest.title());
         assertThat(entity.getDescription()).isEqualTo(taskRequest.description());
         assertThat(entity.getStatus()).isEqualTo(taskRequest.status());
-        assertThat(entity.getDueDate()).isEqualTo(taskRequest.dueDate());
+        assertThat(entity.getDueDate()).isEqualTo(LocalDateTime.of(2025, 8, 1, 12, 0, 0, 123_456_000));
     }
 
     @Test
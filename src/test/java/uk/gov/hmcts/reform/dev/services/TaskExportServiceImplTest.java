@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dtos.ExportFormat;
+import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskExportServiceImplTest {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 2, 3, 4, 5);
+
+    private TaskRepository taskRepository;
+    private TaskExportServiceImpl taskExportService;
+
+    private TaskResponse first;
+    private TaskResponse second;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportService = new TaskExportServiceImpl(taskRepository, objectMapper);
+
+        first = new TaskResponse(1L, "First", "plain", Status.PENDING, DUE_DATE, null, null);
+        second = new TaskResponse(2L, "Second, with comma", "say \"hi\"", Status.COMPLETED, DUE_DATE, null, null);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLineForNdjson() throws Exception {
+        when(taskRepository.streamAllResponses()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"dueDate\":\"2030-01-02T03:04:05\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+    }
+
+    @Test
+    void shouldWriteHeaderAndEscapedRowsForCsv() throws Exception {
+        when(taskRepository.streamAllResponses()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            TaskExportServiceImpl.CSV_HEADER + "\n"
+                + "1,First,plain,PENDING,2030-01-02T03:04:05,,\n"
+                + "2,\"Second, with comma\",\"say \"\"hi\"\"\",COMPLETED,2030-01-02T03:04:05,,\n");
+    }
+
+    @Test
+    void shouldWriteOnlyHeaderWhenThereAreNoTasks() throws Exception {
+        when(taskRepository.streamAllResponses()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(TaskExportServiceImpl.CSV_HEADER + "\n");
+    }
+}
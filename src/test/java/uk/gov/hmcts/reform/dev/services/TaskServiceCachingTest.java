@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validator;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusChange;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
+
+@SpringJUnitConfig(TaskServiceCachingTest.Config.class)
+class TaskServiceCachingTest {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        TaskRepository taskRepository() {
+            return mock(TaskRepository.class);
+        }
+
+        @Bean
+        TaskService taskService(TaskRepository taskRepository) {
+            return new TaskServiceImpl(
+                taskRepository,
+                new TaskMapper(),
+                mock(Validator.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(TaskStatusCounters.class)
+            );
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        reset(taskRepository);
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        task = new Task(1L, "Cached", "desc", Status.PENDING, LocalDateTime.now().plusDays(1), null, null);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(new TaskMapper().toDto(task)));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        taskService.getTaskById(1L);
+        taskService.getTaskById(1L);
+
+        verify(taskRepository, times(1)).findResponseById(1L);
+    }
+
+    @Test
+    void shouldInvalidateEntryWhenStatusIsUpdated() {
+        Task completed = new Task(1L, "Cached", "desc", Status.COMPLETED, task.getDueDate(), null, null);
+        TaskStatusUpdate update = mock(TaskStatusUpdate.class);
+        when(update.getId()).thenReturn(1L);
+        when(update.getStatus()).thenReturn(Status.COMPLETED);
+        when(update.getPreviousStatus()).thenReturn(Status.PENDING.name());
+        when(taskRepository.updateStatusById(eq(1L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(update));
+
+        taskService.getTaskById(1L);
+        taskService.updateTaskStatusById(1L, Status.COMPLETED);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(new TaskMapper().toDto(completed)));
+
+        assertThat(taskService.getTaskById(1L).status()).isEqualTo(Status.COMPLETED);
+        verify(taskRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    void shouldInvalidateEntryWhenTaskIsDeleted() {
+        when(taskRepository.deleteTaskById(1L)).thenReturn(Optional.of(previousStatus(Status.PENDING)));
+
+        taskService.getTaskById(1L);
+        taskService.deleteTask(1L);
+
+        assertThat(cacheManager.getCache(CacheConfig.TASKS_CACHE).get(1L)).isNull();
+    }
+
+    private static TaskStatusChange previousStatus(Status status) {
+        return new TaskStatusChange() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getPreviousStatus() {
+                return status.name();
+            }
+        };
+    }
+}
@@ -2,26 +2,55 @@ package uk.gov.hmcts.reform.dev.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 
+import jakarta.validation.Validation;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dtos.BatchCreateResponse;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dtos.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskFilter;
+import uk.gov.hmcts.reform.dev.dtos.TaskPage;
 import uk.gov.hmcts.reform.dev.dtos.TaskRequest;
 import uk.gov.hmcts.reform.dev.dtos.TaskResponse;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchCursor;
+import uk.gov.hmcts.reform.dev.dtos.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.dtos.TaskSort;
+import uk.gov.hmcts.reform.dev.dtos.TaskVersion;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
 import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
 import uk.gov.hmcts.reform.dev.models.Status;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusChange;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.stats.TaskStatusCounters;
 
 public class TaskServiceImplTest {
     @Mock
@@ -30,6 +59,9 @@ public class TaskServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -41,7 +73,14 @@ public class TaskServiceImplTest {
     void setUp() {
         taskRepository = mock(TaskRepository.class);
         taskMapper = mock(TaskMapper.class);
-        taskService = new TaskServiceImpl(taskRepository, taskMapper);
+        taskStatusCounters = mock(TaskStatusCounters.class);
+        taskService = new TaskServiceImpl(
+            taskRepository,
+            taskMapper,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            taskStatusCounters
+        );
         requestDto =
             new TaskRequest(
                 "Sample title 1",
@@ -83,6 +122,7 @@ public class TaskServiceImplTest {
 
         assertThat(result).isEqualTo(responseDto);
         verify(taskRepository).save(task);
+        verify(taskStatusCounters).recordCreated(Status.IN_PROGRESS);
     }
 
     @Test
@@ -91,43 +131,160 @@ public class TaskServiceImplTest {
     }
 
     @Test
-    void shouldGetTaskByIdSuccessfully() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+    void shouldCreateValidTasksAndReportInvalidOnesInBatch() {
+        TaskRequest blankTitle = new TaskRequest("", "desc", Status.PENDING, LocalDateTime.now().plusDays(1));
+        TaskRequest pastDueDate = new TaskRequest("title", "desc", Status.PENDING, LocalDateTime.now().minusDays(1));
+
+        when(taskMapper.toEntity(requestDto)).thenReturn(task);
+        when(taskRepository.saveAll(List.of(task))).thenReturn(List.of(task));
         when(taskMapper.toDto(task)).thenReturn(responseDto);
 
+        BatchCreateResponse result = taskService.createTasks(Arrays.asList(blankTitle, requestDto, pastDueDate, null));
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.results().get(0).errors()).containsExactly("title: Title is a mandatory field");
+        assertThat(result.results().get(1).task()).isEqualTo(responseDto);
+        assertThat(result.results().get(1).errors()).isEmpty();
+        assertThat(result.results().get(2).errors())
+            .containsExactly("dueDate: Due date should be today or a future date");
+        assertThat(result.results().get(3).errors()).containsExactly("Task request is null valued");
+        verify(taskStatusCounters).recordCreated(List.of(Status.IN_PROGRESS));
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaximum() {
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= TaskServiceImpl.MAX_BATCH_SIZE; i++) {
+            requests.add(requestDto);
+        }
+
+        assertThrows(InvalidRequestException.class, () -> taskService.createTasks(requests));
+    }
+
+    @Test
+    void shouldGetTaskByIdSuccessfully() {
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(responseDto));
+
         TaskResponse result = taskService.getTaskById(1L);
         assertThat(result).isEqualTo(responseDto);
+        verify(taskRepository, never()).findById(1L);
     }
 
     @Test
     void shouldThrowExceptionWhenTaskNotFoundById() {
-        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(99L)).thenReturn(Optional.empty());
         assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(99L));
     }
 
     @Test
-    void shouldReturnAllTasks() {
-        List<Task> taskList = List.of(task);
+    void shouldGetTaskVersionWithoutLoadingEntity() {
+        TaskVersion version = new TaskVersion(1L, task.getUpdatedAt());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(version));
 
-        when(taskRepository.findAll()).thenReturn(taskList);
-        when(taskMapper.toDto(task)).thenReturn(responseDto);
+        assertThat(taskService.getTaskVersion(1L)).isEqualTo(version);
+        verify(taskRepository, never()).findById(1L);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenVersionOfMissingTaskRequested() {
+        when(taskRepository.findVersionById(99L)).thenReturn(Optional.empty());
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskVersion(99L));
+    }
+
+    @Test
+    void shouldReturnAllTasks() {
+        when(taskRepository.findAllResponses()).thenReturn(List.of(responseDto));
 
         List<TaskResponse> result = taskService.getAllTasks();
         assertThat(result).hasSize(1).containsExactly(responseDto);
     }
 
+    @Test
+    void shouldReturnPageWithNextCursorWhenMoreRowsExist() {
+        TaskResponse second = new TaskResponse(2L, "Second", null, Status.PENDING, null, null, null);
+
+        when(taskRepository.findResponses(TaskFilter.NONE, TaskSort.ID, null, 2))
+            .thenReturn(List.of(responseDto, second));
+
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 1);
+
+        assertThat(page.items()).containsExactly(responseDto);
+        assertThat(page.next()).isEqualTo(new TaskCursor(1L).encode());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursorWhenNoMoreRows() {
+        String cursor = new TaskCursor(1L).encode();
+        when(taskRepository.findResponses(TaskFilter.NONE, TaskSort.ID, new TaskCursor(1L), 51))
+            .thenReturn(List.of());
+
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, cursor, 50);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void shouldClampPageSizeToMaximum() {
+        when(taskRepository.findResponses(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 100_000);
+
+        verify(taskRepository).findResponses(TaskFilter.NONE, TaskSort.ID, null, TaskServiceImpl.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void shouldIssueDueDateCursorWhenSortedByDueDate() {
+        TaskFilter filter = new TaskFilter(Status.PENDING, null, null);
+        TaskResponse second = new TaskResponse(2L, "Second", null, Status.PENDING, null, null, null);
+        when(taskRepository.findResponses(filter, TaskSort.DUE_DATE, null, 2)).thenReturn(List.of(responseDto, second));
+
+        TaskPage page = taskService.getTasks(filter, TaskSort.DUE_DATE, null, 1);
+
+        assertThat(TaskCursor.decode(page.next()))
+            .isEqualTo(new TaskCursor(TaskSort.DUE_DATE, responseDto.id(), responseDto.dueDate()));
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForAnotherSort() {
+        String cursor = new TaskCursor(1L).encode();
+
+        assertThrows(InvalidRequestException.class,
+            () -> taskService.getTasks(TaskFilter.NONE, TaskSort.DUE_DATE, cursor, 50));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldReturnSearchPageWithRankCursor() {
+        TaskResponse second = new TaskResponse(2L, "Second", null, Status.PENDING, null, null, null);
+        when(taskRepository.search("bundle", null, 2))
+            .thenReturn(List.of(new TaskSearchHit(responseDto, 0.5f), new TaskSearchHit(second, 0.25f)));
+
+        TaskPage page = taskService.searchTasks("bundle", null, 1);
+
+        assertThat(page.items()).containsExactly(responseDto);
+        assertThat(TaskSearchCursor.decode(page.next())).isEqualTo(new TaskSearchCursor(0.5f, responseDto.id()));
+    }
+
+    @Test
+    void shouldRejectBlankSearchQuery() {
+        assertThrows(InvalidRequestException.class, () -> taskService.searchTasks(" ", null, 50));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldRejectEmptyDueDateRange() {
+        LocalDateTime due = LocalDateTime.now();
+        TaskFilter filter = new TaskFilter(null, due, due);
+
+        assertThrows(InvalidRequestException.class, () -> taskService.getTasks(filter, TaskSort.ID, null, 50));
+    }
+
     @Test
     void shouldUpdateTaskStatusSuccessfully() {
-        Task updatedTask =
-            new Task(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                Status.COMPLETED,
-                task.getDueDate(),
-                task.getCreatedAt(),
-                task.getUpdatedAt()
-            );
+        TaskStatusUpdate updatedTask = mock(TaskStatusUpdate.class);
+        when(updatedTask.getPreviousStatus()).thenReturn("IN_PROGRESS");
         TaskResponse updatedResponse =
             new TaskResponse(
                 task.getId(),
@@ -139,39 +296,124 @@ public class TaskServiceImplTest {
                 task.getUpdatedAt()
             );
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(task)).thenReturn(updatedTask);
+        when(taskRepository.updateStatusById(eq(1L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(updatedTask));
         when(taskMapper.toDto(updatedTask)).thenReturn(updatedResponse);
 
         TaskResponse result = taskService.updateTaskStatusById(1L, Status.COMPLETED);
         assertThat(result.status()).isEqualTo(Status.COMPLETED);
-        verify(taskRepository).findById(1L);
-        verify(taskRepository).save(task);
+        verify(taskRepository).updateStatusById(eq(1L), eq("COMPLETED"), any(LocalDateTime.class));
+        verify(taskRepository, never()).findById(1L);
         verify(taskMapper).toDto(updatedTask);
+        verify(taskStatusCounters).recordMoved(List.of(Status.IN_PROGRESS), Status.COMPLETED);
     }
 
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistentTask() {
-        when(taskRepository.findById(2L)).thenReturn(Optional.empty());
+        when(taskRepository.updateStatusById(eq(2L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
         assertThrows(
             TaskNotFoundException.class, () -> taskService.updateTaskStatusById(2L, Status.COMPLETED));
-        verify(taskRepository).findById(2L);
+        verify(taskRepository).updateStatusById(eq(2L), eq("COMPLETED"), any(LocalDateTime.class));
+        verifyNoInteractions(taskStatusCounters);
+    }
+
+    @Test
+    void shouldUpdateListedTasksInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, TaskServiceImpl.BULK_CHUNK_SIZE + 1).boxed().toList();
+        List<Long> firstChunk = ids.subList(0, TaskServiceImpl.BULK_CHUNK_SIZE);
+        List<Long> secondChunk = ids.subList(TaskServiceImpl.BULK_CHUNK_SIZE, ids.size());
+        when(taskRepository.updateStatusByIdIn(eq(firstChunk), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(firstChunk.stream().map(id -> change(id, "PENDING")).toList());
+        when(taskRepository.updateStatusByIdIn(eq(secondChunk), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(List.of());
+
+        BulkStatusUpdateResponse result =
+            taskService.bulkUpdateStatus(new BulkStatusUpdateRequest(ids, null, null, Status.COMPLETED));
+
+        assertThat(result.updated()).isEqualTo(TaskServiceImpl.BULK_CHUNK_SIZE);
+        assertThat(result.ids()).isEqualTo(firstChunk);
+        verify(taskStatusCounters).recordMoved(
+            Collections.nCopies(TaskServiceImpl.BULK_CHUNK_SIZE, Status.PENDING), Status.COMPLETED);
+    }
+
+    @Test
+    void shouldUpdateMatchingTasksUntilLastPartialChunk() {
+        LocalDateTime dueBefore = LocalDateTime.now();
+        List<TaskStatusChange> fullChunk = LongStream.rangeClosed(1, TaskServiceImpl.BULK_CHUNK_SIZE)
+            .mapToObj(id -> change(id, "IN_PROGRESS"))
+            .toList();
+        when(taskRepository.updateStatusMatching(
+            eq("IN_PROGRESS"), eq(dueBefore), eq("COMPLETED"), eq(TaskServiceImpl.BULK_CHUNK_SIZE),
+            any(LocalDateTime.class)
+        )).thenReturn(fullChunk, List.of(change(9999L, "IN_PROGRESS")));
+
+        BulkStatusUpdateResponse result = taskService.bulkUpdateStatus(
+            new BulkStatusUpdateRequest(null, Status.IN_PROGRESS, dueBefore, Status.COMPLETED));
+
+        assertThat(result.updated()).isEqualTo(TaskServiceImpl.BULK_CHUNK_SIZE + 1);
+        assertThat(result.ids()).endsWith(9999L);
+        assertThat(result.more()).isFalse();
+    }
+
+    @Test
+    void shouldStopUpdatingMatchingTasksAtBatchLimit() {
+        when(taskRepository.updateStatusMatching(
+            eq("IN_PROGRESS"), isNull(), eq("COMPLETED"), eq(TaskServiceImpl.BULK_CHUNK_SIZE),
+            any(LocalDateTime.class)
+        )).thenAnswer(invocation -> LongStream.rangeClosed(1, TaskServiceImpl.BULK_CHUNK_SIZE)
+            .mapToObj(id -> change(id, "IN_PROGRESS"))
+            .toList());
+
+        BulkStatusUpdateResponse result = taskService.bulkUpdateStatus(
+            new BulkStatusUpdateRequest(null, Status.IN_PROGRESS, null, Status.COMPLETED));
+
+        assertThat(result.updated()).isEqualTo(TaskServiceImpl.MAX_BATCH_SIZE);
+        assertThat(result.more()).isTrue();
+        verify(taskRepository, times(TaskServiceImpl.MAX_BATCH_SIZE / TaskServiceImpl.BULK_CHUNK_SIZE))
+            .updateStatusMatching(eq("IN_PROGRESS"), isNull(), eq("COMPLETED"), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldRejectBulkUpdateWithBothIdsAndFilterOrNeither() {
+        assertThrows(InvalidRequestException.class, () -> taskService.bulkUpdateStatus(
+            new BulkStatusUpdateRequest(List.of(1L), Status.PENDING, null, Status.COMPLETED)));
+        assertThrows(InvalidRequestException.class, () -> taskService.bulkUpdateStatus(
+            new BulkStatusUpdateRequest(null, null, null, Status.COMPLETED)));
+        assertThrows(InvalidRequestException.class, () -> taskService.bulkUpdateStatus(
+            new BulkStatusUpdateRequest(List.of(1L), null, null, null)));
     }
 
     @Test
     void shouldDeleteTaskSuccessfully() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(Optional.of(change(1L, "PENDING")));
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository).findById(1L);
-        verify(taskRepository).delete(task);
+        verify(taskRepository).deleteTaskById(1L);
+        verify(taskRepository, never()).findById(1L);
+        verify(taskStatusCounters).recordDeleted(Status.PENDING);
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTask() {
-        when(taskRepository.findById(5L)).thenReturn(Optional.empty());
+        when(taskRepository.deleteTaskById(5L)).thenReturn(Optional.empty());
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(5L));
-        verify(taskRepository).findById(5L);
+        verify(taskRepository).deleteTaskById(5L);
+        verifyNoInteractions(taskStatusCounters);
+    }
+
+    private static TaskStatusChange change(Long id, String previousStatus) {
+        return new TaskStatusChange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPreviousStatus() {
+                return previousStatus;
+            }
+        };
     }
 }
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.dev.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.dtos.StatusCount;
+import uk.gov.hmcts.reform.dev.dtos.TaskStats;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskStatusCountersTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskStatusCounters counters = new TaskStatusCounters(taskRepository, meterRegistry);
+
+    @Test
+    void shouldApplyCreatesMovesAndDeletes() {
+        counters.recordCreated(List.of(Status.PENDING, Status.PENDING, Status.IN_PROGRESS));
+        counters.recordCreated(Status.PENDING);
+        counters.recordMoved(List.of(Status.PENDING, Status.IN_PROGRESS), Status.COMPLETED);
+        counters.recordDeleted(Status.PENDING);
+        counters.recordCreated((Status) null);
+
+        TaskStats stats = counters.snapshot();
+        assertThat(stats.counts())
+            .isEqualTo(Map.of(Status.PENDING, 1L, Status.IN_PROGRESS, 0L, Status.COMPLETED, 2L));
+        assertThat(stats.total()).isEqualTo(3);
+        assertThat(stats.reconciledAt()).isNull();
+        assertThat(meterRegistry.get("task.status.count").tag("status", "COMPLETED").gauge().value())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyChangesOnlyWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.recordCreated(Status.PENDING);
+            counters.recordCreated(Status.COMPLETED);
+            assertThat(counters.snapshot().total()).isZero();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.getFirst().afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counters.snapshot().counts()).containsEntry(Status.PENDING, 1L).containsEntry(Status.COMPLETED, 0L);
+    }
+
+    @Test
+    void shouldCorrectDriftFromTheTable() {
+        counters.recordCreated(List.of(Status.PENDING, Status.COMPLETED));
+        when(taskRepository.countByStatus()).thenReturn(List.of(
+            new StatusCount(Status.PENDING, 4L), new StatusCount(Status.IN_PROGRESS, 1L), new StatusCount(null, 7L)));
+
+        assertThat(counters.reconcile()).isTrue();
+
+        TaskStats stats = counters.snapshot();
+        assertThat(stats.counts())
+            .isEqualTo(Map.of(Status.PENDING, 4L, Status.IN_PROGRESS, 1L, Status.COMPLETED, 0L));
+        assertThat(stats.reconciledAt()).isNotNull();
+    }
+
+    @Test
+    void shouldRetryWhenWritesLandDuringTheQueryAndGiveUpIfTheyKeepComing() {
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            counters.recordCreated(Status.PENDING);
+            return List.of(new StatusCount(Status.PENDING, 100L));
+        });
+
+        assertThat(counters.reconcile()).isFalse();
+
+        verify(taskRepository, times(TaskStatusCounters.MAX_RECONCILE_ATTEMPTS)).countByStatus();
+        assertThat(counters.snapshot().counts()).containsEntry(Status.PENDING, 3L);
+        assertThat(counters.snapshot().reconciledAt()).isNull();
+    }
+}